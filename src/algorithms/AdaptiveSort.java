@@ -0,0 +1,367 @@
+package algorithms;
+
+import java.util.*;
+import java.util.function.Function;
+
+import models.Member;
+import constants.Constants;
+
+/**
+ * Adaptive sort selection for member lists.
+ *
+ * Before sorting, the input is profiled: its size, the number of sorted
+ * runs already present, the fraction of inverted pairs in a random sample,
+ * and the number of distinct keys in a sample. The profile then decides
+ * which of the sorts in SortingAlgorithms does the least work:
+ * - tiny inputs, and inputs with only a few inversions per member, use
+ *   insertion sort
+ * - inputs already made of long runs, or with few inverted pairs even if
+ *   broken into many short runs (e.g. exports that arrive nearly sorted),
+ *   use TimSort, which detects and merges the existing runs
+ * - keys with few distinct values (other than names) use counting sort
+ * - other numeric keys use radix sort
+ * - large String-keyed inputs on multi-core machines use parallel merge sort
+ * - other String-keyed inputs use multikey string sort
+ *
+ * Every strategy is stable, so the result always equals customSort.
+ *
+ * @author ICT711 Student
+ * @version 1.0
+ */
+public final class AdaptiveSort {
+    /**
+     * Sorting strategy chosen for an input.
+     */
+    public enum Strategy {
+        /** Stable insertion sort, for tiny inputs */
+        INSERTION_SORT,
+        /** TimSort, which merges the ascending runs already in the input */
+        RUN_MERGE,
+        /** Stable counting sort over the distinct keys */
+        COUNTING_SORT,
+        /** Stable LSD radix sort over numeric keys */
+        RADIX_SORT,
+        /** Multikey quicksort over String keys */
+        STRING_SORT,
+        /** Fork/Join parallel merge sort */
+        PARALLEL_MERGE_SORT
+    }
+
+    /** Fixed seed so the same input always gets the same profile */
+    private static final long SAMPLE_SEED = 711L;
+
+    /**
+     * Private constructor to prevent instantiation of utility class.
+     *
+     * @throws AssertionError if instantiation is attempted
+     */
+    private AdaptiveSort() {
+        throw new AssertionError("AdaptiveSort class should not be instantiated");
+    }
+
+    /**
+     * Measures the presortedness, size and key cardinality of an input.
+     *
+     * Runs are counted exactly in one pass over adjacent pairs; inversions
+     * and distinct keys are estimated from a random sample.
+     *
+     * @param members members to profile (not modified)
+     * @param sortBy criteria to sort by ("id", "name", "performance", "fee", "type", "joinDate")
+     * @param ascending whether the sort will be ascending
+     * @return profile of the input
+     * @throws IllegalArgumentException if sortBy is not a supported criteria
+     */
+    public static Profile profile(List<Member> members, String sortBy, boolean ascending) {
+        Comparator<Member> comparator = SortingAlgorithms.sortComparator(sortBy, ascending);
+        Function<Member, Object> key = keyFunction(sortBy);
+        int n = members.size();
+
+        // TimSort also reverses strictly descending runs, so input sorted the
+        // other way is just as cheap - count runs in both directions
+        int ascendingRuns = n == 0 ? 0 : 1;
+        int descendingRuns = ascendingRuns;
+        for (int i = 1; i < n; i++) {
+            int result = comparator.compare(members.get(i - 1), members.get(i));
+            if (result > 0) {
+                ascendingRuns++;
+            } else {
+                descendingRuns++;
+            }
+        }
+        int runs = Math.min(ascendingRuns, descendingRuns);
+
+        Random random = new Random(SAMPLE_SEED);
+        int sampledPairs = 0;
+        int sampledInversions = 0;
+        Set<Object> sampledKeys = new HashSet<>();
+        int sampleSize = Math.min(n, Constants.ADAPTIVE_SAMPLE_SIZE);
+        for (int s = 0; s < sampleSize; s++) {
+            int i = sampleSize == n ? s : random.nextInt(n);
+            sampledKeys.add(key.apply(members.get(i)));
+            if (n > 1) {
+                int j = random.nextInt(n - 1);
+                int low = Math.min(i, j >= i ? j + 1 : j);
+                int high = Math.max(i, j >= i ? j + 1 : j);
+                sampledPairs++;
+                if (comparator.compare(members.get(low), members.get(high)) > 0) {
+                    sampledInversions++;
+                }
+            }
+        }
+
+        return new Profile(sortBy, n, runs, sampledPairs, sampledInversions, sampleSize, sampledKeys.size());
+    }
+
+    /**
+     * Chooses the sorting strategy for a profiled input.
+     *
+     * @param profile profile from profile()
+     * @return strategy expected to do the least work
+     */
+    public static Strategy choose(Profile profile) {
+        int n = profile.getSize();
+        if (profile.getRuns() <= 1) {
+            return Strategy.RUN_MERGE; // Already sorted either way - TimSort finishes in one pass
+        }
+        if (n <= Constants.ADAPTIVE_INSERTION_SORT_MAX) {
+            return Strategy.INSERTION_SORT;
+        }
+        // Insertion sort shifts once per inversion. Count one more sampled inversion
+        // than was seen so a lucky sample cannot send a large input down the O(n^2) path
+        double pairs = (double) n * (n - 1) / 2;
+        double inversionBound = (profile.getSampledInversions() + 1.0) / (profile.getSampledPairs() + 1) * pairs;
+        if (inversionBound <= (double) n * Constants.ADAPTIVE_MAX_INSERTION_INVERSIONS) {
+            return Strategy.INSERTION_SORT;
+        }
+        if (profile.getAverageRunLength() >= Constants.ADAPTIVE_MIN_AVERAGE_RUN
+                || profile.getInversionRatio() <= Constants.ADAPTIVE_MAX_RUN_MERGE_INVERSION_RATIO) {
+            return Strategy.RUN_MERGE;
+        }
+        // Names order by collation key rather than a natural key, so they are never counted
+        if (profile.getDistinctSampledKeys() <= Constants.ADAPTIVE_MAX_COUNTING_KEYS
+                && profile.getDistinctSampledKeys() * 4 <= profile.getSampledKeys()
+                && !profile.getSortBy().equalsIgnoreCase("name")) {
+            return Strategy.COUNTING_SORT;
+        }
+        switch (profile.getSortBy().toLowerCase()) {
+            case "performance":
+            case "fee":
+            case "joindate":
+                return Strategy.RADIX_SORT;
+            default:
+                break;
+        }
+        if (n >= Constants.ADAPTIVE_PARALLEL_THRESHOLD && Runtime.getRuntime().availableProcessors() > 1) {
+            return Strategy.PARALLEL_MERGE_SORT;
+        }
+        return Strategy.STRING_SORT;
+    }
+
+    /**
+     * Profiles members, chooses a strategy and sorts with it.
+     *
+     * @param members members to sort (not modified)
+     * @param sortBy criteria to sort by ("id", "name", "performance", "fee", "type", "joinDate")
+     * @param ascending whether to sort in ascending order
+     * @return sorted members together with the profile and the strategy used
+     * @throws IllegalArgumentException if sortBy is not a supported criteria
+     */
+    public static Result sort(List<Member> members, String sortBy, boolean ascending) {
+        Profile profile = profile(members, sortBy, ascending);
+        Strategy strategy = choose(profile);
+        return new Result(sort(members, sortBy, ascending, strategy), profile, strategy);
+    }
+
+    /**
+     * Sorts members with a given strategy.
+     *
+     * @param members members to sort (not modified)
+     * @param sortBy criteria to sort by
+     * @param ascending whether to sort in ascending order
+     * @param strategy strategy to use
+     * @return new sorted list, identical to customSort's result
+     * @throws IllegalArgumentException if the strategy does not support the criteria
+     */
+    public static List<Member> sort(List<Member> members, String sortBy, boolean ascending, Strategy strategy) {
+        Comparator<Member> comparator = SortingAlgorithms.sortComparator(sortBy, ascending);
+        switch (strategy) {
+            case INSERTION_SORT:
+                return insertionSort(members, comparator);
+            case RUN_MERGE:
+                List<Member> sorted = new ArrayList<>(members);
+                sorted.sort(comparator); // TimSort: finds the natural runs and merges them
+                return sorted;
+            case COUNTING_SORT:
+                return countingSort(members, sortBy, ascending);
+            case RADIX_SORT:
+                switch (sortBy.toLowerCase()) {
+                    case "performance":
+                        return SortingAlgorithms.radixSort(members, Member::getPerformanceRating, ascending);
+                    case "fee":
+                        return SortingAlgorithms.sortByDoubleKey(members, Member::calculateMonthlyFee, ascending);
+                    case "joindate":
+                        return SortingAlgorithms.sortByLongKey(members, Member::getJoinEpochDay, ascending);
+                    default:
+                        throw new IllegalArgumentException("Radix sort needs a numeric criteria: " + sortBy);
+                }
+            case STRING_SORT:
+                return SortingAlgorithms.applyOrder(members, SortingAlgorithms.sortOrder(members, sortBy, ascending));
+            case PARALLEL_MERGE_SORT:
+                return SortingAlgorithms.parallelMergeSort(members, comparator);
+            default:
+                throw new IllegalArgumentException("Unknown strategy: " + strategy);
+        }
+    }
+
+    /**
+     * Stable insertion sort of a copy of members.
+     */
+    private static List<Member> insertionSort(List<Member> members, Comparator<Member> comparator) {
+        List<Member> sorted = new ArrayList<>(members);
+        for (int i = 1; i < sorted.size(); i++) {
+            Member current = sorted.get(i);
+            int j = i - 1;
+            while (j >= 0 && comparator.compare(sorted.get(j), current) > 0) {
+                sorted.set(j + 1, sorted.get(j));
+                j--;
+            }
+            sorted.set(j + 1, current);
+        }
+        return sorted;
+    }
+
+    /**
+     * Counting sort over the distinct keys of a criteria.
+     * 
+     * @throws IllegalArgumentException for name, which has no natural key to count
+     */
+    private static List<Member> countingSort(List<Member> members, String sortBy, boolean ascending) {
+        switch (sortBy.toLowerCase()) {
+            case "id":
+                return SortingAlgorithms.countingSortByCategory(members, Member::getMemberId, ascending);
+            case "performance":
+                return SortingAlgorithms.countingSort(members, Member::getPerformanceRating,
+                        Constants.MIN_PERFORMANCE_RATING, Constants.MAX_PERFORMANCE_RATING, ascending);
+            case "fee":
+                return SortingAlgorithms.countingSortByCategory(members, Member::calculateMonthlyFee, ascending);
+            case "type":
+                return SortingAlgorithms.countingSort(members, member -> member.getType().getSortRank(),
+                        0, Constants.MEMBER_TYPE_COUNT - 1, ascending);
+            case "joindate":
+                return SortingAlgorithms.countingSortByCategory(members, Member::getJoinEpochDay, ascending);
+            case "name":
+                throw new IllegalArgumentException("Counting sort cannot order names by collation key");
+            default:
+                throw new IllegalArgumentException("Invalid sort criteria: " + sortBy);
+        }
+    }
+
+    /**
+     * @return key of a criteria, used to sample key cardinality
+     * @throws IllegalArgumentException if sortBy is not a supported criteria
+     */
+    private static Function<Member, Object> keyFunction(String sortBy) {
+        switch (sortBy.toLowerCase()) {
+            case "id":
+                return Member::getMemberId;
+            case "name":
+                return Member::getFullName;
+            case "performance":
+                return Member::getPerformanceRating;
+            case "fee":
+                return Member::calculateMonthlyFee;
+            case "type":
+                return Member::getType;
+            case "joindate":
+                return Member::getJoinEpochDay;
+            default:
+                throw new IllegalArgumentException("Invalid sort criteria: " + sortBy);
+        }
+    }
+
+    /**
+     * Measured characteristics of an input, used to choose a strategy.
+     */
+    public static final class Profile {
+        private final String sortBy;
+        private final int size;
+        private final int runs;
+        private final int sampledPairs;
+        private final int sampledInversions;
+        private final int sampledKeys;
+        private final int distinctSampledKeys;
+
+        Profile(String sortBy, int size, int runs, int sampledPairs, int sampledInversions,
+                int sampledKeys, int distinctSampledKeys) {
+            this.sortBy = sortBy;
+            this.size = size;
+            this.runs = runs;
+            this.sampledPairs = sampledPairs;
+            this.sampledInversions = sampledInversions;
+            this.sampledKeys = sampledKeys;
+            this.distinctSampledKeys = distinctSampledKeys;
+        }
+
+        /** @return criteria the input was profiled for */
+        public String getSortBy() { return sortBy; }
+
+        /** @return number of members */
+        public int getSize() { return size; }
+
+        /** @return number of maximal runs, all non-descending or all strictly descending, whichever is fewer */
+        public int getRuns() { return runs; }
+
+        /** @return average run length in members */
+        public double getAverageRunLength() { return runs == 0 ? 0 : (double) size / runs; }
+
+        /** @return number of random member pairs compared */
+        public int getSampledPairs() { return sampledPairs; }
+
+        /** @return number of sampled pairs that were out of order */
+        public int getSampledInversions() { return sampledInversions; }
+
+        /** @return estimated fraction of member pairs that are out of order */
+        public double getInversionRatio() { return sampledPairs == 0 ? 0 : (double) sampledInversions / sampledPairs; }
+
+        /** @return number of keys sampled for cardinality */
+        public int getSampledKeys() { return sampledKeys; }
+
+        /** @return number of distinct keys in the sample */
+        public int getDistinctSampledKeys() { return distinctSampledKeys; }
+
+        @Override
+        public String toString() {
+            return String.format("%d members, %d runs, %.1f%% inversions, %d distinct of %d sampled keys",
+                                 size, runs, getInversionRatio() * 100, distinctSampledKeys, sampledKeys);
+        }
+    }
+
+    /**
+     * Output of an adaptive sort: the sorted members and how they were sorted.
+     */
+    public static final class Result {
+        private final List<Member> members;
+        private final Profile profile;
+        private final Strategy strategy;
+
+        Result(List<Member> members, Profile profile, Strategy strategy) {
+            this.members = members;
+            this.profile = profile;
+            this.strategy = strategy;
+        }
+
+        /** @return new sorted list, identical to customSort's result */
+        public List<Member> getMembers() { return members; }
+
+        /** @return profile the strategy was chosen from */
+        public Profile getProfile() { return profile; }
+
+        /** @return strategy used to sort */
+        public Strategy getStrategy() { return strategy; }
+
+        @Override
+        public String toString() {
+            return strategy + " for " + profile;
+        }
+    }
+}
@@ -0,0 +1,272 @@
+package algorithms;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import models.Member;
+
+/**
+ * Multi-field member sorting on packed primitive keys.
+ *
+ * Each sort field is mapped to an order-preserving long (type rank, rating,
+ * encoded member ID, sortable fee bits), shifted to start at zero and, for
+ * descending fields, reversed within its range. The fields are then packed
+ * most significant first into as few 63-bit words as they need, so a whole
+ * composite key compares as one or two primitive longs.
+ *
+ * When the key and the member position fit into a single long together,
+ * the packed values are sorted directly with Arrays.sort (or parallelSort
+ * for large rosters) and the position is read back from the low bits.
+ * Wider keys are ordered one word at a time with stable radix passes.
+ * Fields that cannot be packed (names, or IDs outside one fixed-width
+ * prefix-plus-digits scheme) fall back to a composed comparator.
+ *
+ * Time Complexity: O(n log n) packed, O(n log n) comparisons otherwise
+ * Space Complexity: O(n) per packed word
+ * Stability: Stable (equal composite keys keep their input order)
+ *
+ * @author ICT711 Student
+ * @version 1.0
+ */
+public final class CompositeKeySort {
+    /** Usable bits per packed word; the sign bit stays clear so signed order is key order */
+    private static final int WORD_BITS = 63;
+
+    /**
+     * Private constructor to prevent instantiation of utility class.
+     *
+     * @throws AssertionError if instantiation is attempted
+     */
+    private CompositeKeySort() {
+        throw new AssertionError("CompositeKeySort class should not be instantiated");
+    }
+
+    /**
+     * Orders members by several fields, the first field being most significant.
+     *
+     * @param members members to order (not modified)
+     * @param sortBy criteria in priority order ("id", "name", "performance", "fee", "type", "joinDate")
+     * @param ascending direction of each criteria
+     * @return permutation where position i holds the index of the i-th member in sorted order
+     * @throws IllegalArgumentException if the arrays are empty, differ in length or
+     *         contain an unsupported criteria
+     */
+    public static int[] order(List<Member> members, String[] sortBy, boolean[] ascending) {
+        validate(sortBy, ascending);
+        PackedKeys packed = packKeys(members, sortBy, ascending);
+        if (packed == null) {
+            return comparatorOrder(members, sortBy, ascending);
+        }
+        return primitiveOrder(packed, members.size());
+    }
+
+    /**
+     * Checks whether every criteria can be packed into primitive keys for these members.
+     *
+     * @param members members that would be sorted
+     * @param sortBy criteria in priority order
+     * @return true if order() will sort on packed longs rather than a comparator
+     * @throws IllegalArgumentException if sortBy is empty or contains an unsupported criteria
+     */
+    public static boolean fitsPrimitiveKeys(List<Member> members, String[] sortBy) {
+        boolean[] ascending = new boolean[sortBy.length];
+        validate(sortBy, ascending);
+        return packKeys(members, sortBy, ascending) != null;
+    }
+
+    /**
+     * @throws IllegalArgumentException if the criteria arrays are unusable
+     */
+    private static void validate(String[] sortBy, boolean[] ascending) {
+        if (sortBy.length == 0 || sortBy.length != ascending.length) {
+            throw new IllegalArgumentException("Sort criteria and directions must be non-empty and the same length");
+        }
+        for (String criteria : sortBy) {
+            SortingAlgorithms.sortComparator(criteria, true); // Rejects unsupported criteria up front
+        }
+    }
+
+    /**
+     * Packs all fields into 63-bit words, most significant field first.
+     *
+     * @return packed words, or null if a field cannot be packed
+     */
+    private static PackedKeys packKeys(List<Member> members, String[] sortBy, boolean[] ascending) {
+        int n = members.size();
+        List<long[]> words = new ArrayList<>();
+        long[] word = null;
+        int usedBits = WORD_BITS;
+
+        for (int f = 0; f < sortBy.length; f++) {
+            long[] keys = fieldKeys(members, sortBy[f]);
+            if (keys == null) {
+                return null;
+            }
+            long min = Long.MAX_VALUE;
+            long max = Long.MIN_VALUE;
+            for (long key : keys) {
+                min = Math.min(min, key);
+                max = Math.max(max, key);
+            }
+            if (n == 0 || min == max) {
+                continue; // A constant field never changes the order
+            }
+            long range = max - min;
+            if (range < 0) {
+                return null; // Range needs all 64 bits
+            }
+            int width = 64 - Long.numberOfLeadingZeros(range);
+            if (usedBits + width > WORD_BITS) {
+                word = new long[n];
+                words.add(word);
+                usedBits = 0;
+            }
+            for (int i = 0; i < n; i++) {
+                long offset = ascending[f] ? keys[i] - min : max - keys[i];
+                word[i] = (word[i] << width) | offset;
+            }
+            usedBits += width;
+        }
+        return new PackedKeys(words, usedBits);
+    }
+
+    /**
+     * Sorts packed keys. When a single word leaves room for the member
+     * position, position and key are sorted together as one long; otherwise
+     * words are ordered least significant first with stable radix passes.
+     */
+    private static int[] primitiveOrder(PackedKeys packed, int n) {
+        int[] order = new int[n];
+        List<long[]> words = packed.words;
+        int indexBits = indexBits(n);
+        if (words.size() == 1 && packed.lastWordBits + indexBits <= WORD_BITS) {
+            // Position in the low bits makes equal keys sort by position (stable)
+            long[] word = words.get(0);
+            for (int i = 0; i < n; i++) {
+                word[i] = (word[i] << indexBits) | i;
+            }
+            if (n >= ParallelMergeSort.PARALLEL_SORT_THRESHOLD) {
+                Arrays.parallelSort(word);
+            } else {
+                Arrays.sort(word);
+            }
+            long mask = (1L << indexBits) - 1;
+            for (int i = 0; i < n; i++) {
+                order[i] = (int) (word[i] & mask);
+            }
+            return order;
+        }
+
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        long[] permuted = new long[n];
+        int[] next = new int[n];
+        for (int w = words.size() - 1; w >= 0; w--) {
+            long[] word = words.get(w);
+            for (int i = 0; i < n; i++) {
+                permuted[i] = word[order[i]];
+            }
+            int[] step = KeyedSort.orderByLong(permuted, true);
+            for (int i = 0; i < n; i++) {
+                next[i] = order[step[i]];
+            }
+            int[] swap = order; order = next; next = swap;
+        }
+        return order;
+    }
+
+    /**
+     * @return number of bits needed to store a position below n
+     */
+    private static int indexBits(int n) {
+        return n <= 1 ? 1 : 32 - Integer.numberOfLeadingZeros(n - 1);
+    }
+
+    /**
+     * Maps one criteria to an order-preserving long per member.
+     *
+     * @return keys in list order, or null if the criteria cannot be packed for these members
+     */
+    private static long[] fieldKeys(List<Member> members, String criteria) {
+        int n = members.size();
+        long[] keys = new long[n];
+        switch (criteria.toLowerCase()) {
+            case "id":
+                keys = MemberIdCodec.encodeAll(members);
+                for (long code : keys) {
+                    // Codes only follow String order when every ID has the same digit count
+                    if (code == MemberIdCodec.NOT_ENCODABLE
+                            || MemberIdCodec.digitCount(code) != MemberIdCodec.digitCount(keys[0])) {
+                        return null;
+                    }
+                }
+                return keys;
+            case "performance":
+                for (int i = 0; i < n; i++) {
+                    keys[i] = members.get(i).getPerformanceRating();
+                }
+                return keys;
+            case "fee":
+                for (int i = 0; i < n; i++) {
+                    long bits = Double.doubleToLongBits(members.get(i).calculateMonthlyFee());
+                    // Same sortable image as KeyedSort: matches Double.compare
+                    keys[i] = bits ^ ((bits >> 63) & Long.MAX_VALUE);
+                }
+                return keys;
+            case "type":
+                for (int i = 0; i < n; i++) {
+                    keys[i] = members.get(i).getType().getSortRank();
+                }
+                return keys;
+            case "joindate":
+                for (int i = 0; i < n; i++) {
+                    keys[i] = members.get(i).getJoinEpochDay();
+                }
+                return keys;
+            case "name":
+                return null;
+            default:
+                throw new IllegalArgumentException("Invalid sort criteria: " + criteria);
+        }
+    }
+
+    /**
+     * Fallback: stable sort of positions with a composed comparator.
+     */
+    private static int[] comparatorOrder(List<Member> members, String[] sortBy, boolean[] ascending) {
+        Comparator<Member> composed = null;
+        for (int f = 0; f < sortBy.length; f++) {
+            Comparator<Member> field = SortingAlgorithms.sortComparator(sortBy[f], ascending[f]);
+            composed = composed == null ? field : composed.thenComparing(field);
+        }
+        Comparator<Member> memberOrder = composed;
+
+        Integer[] positions = new Integer[members.size()];
+        for (int i = 0; i < positions.length; i++) {
+            positions[i] = i;
+        }
+        Arrays.sort(positions, (a, b) -> memberOrder.compare(members.get(a), members.get(b)));
+
+        int[] order = new int[positions.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = positions[i];
+        }
+        return order;
+    }
+
+    /**
+     * Packed key words, most significant first, and the bits used in the last word.
+     */
+    private static final class PackedKeys {
+        private final List<long[]> words;
+        private final int lastWordBits;
+
+        PackedKeys(List<long[]> words, int lastWordBits) {
+            this.words = words;
+            this.lastWordBits = lastWordBits;
+        }
+    }
+}
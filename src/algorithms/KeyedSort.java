@@ -0,0 +1,119 @@
+package algorithms;
+
+import java.util.Arrays;
+
+/**
+ * Decorate-sort-undecorate on primitive keys.
+ *
+ * Callers extract each element's key exactly once into a primitive array;
+ * this class then sorts an index permutation by those keys without boxing
+ * and without calling back into the elements. Applying the permutation
+ * yields the sorted elements. This turns an expensive key such as the
+ * polymorphic monthly fee from O(n log n) evaluations into n evaluations.
+ *
+ * Sorting is a stable LSD radix sort over 64-bit sortable key images, with
+ * byte passes skipped when every key shares that byte.
+ *
+ * Time Complexity: O(n) - at most eight byte passes
+ * Space Complexity: O(n) - one key buffer and one index buffer
+ * Stability: Stable (equal keys keep their input order in both directions)
+ *
+ * @author ICT711 Student
+ * @version 1.0
+ */
+public final class KeyedSort {
+    /**
+     * Private constructor to prevent instantiation of utility class.
+     *
+     * @throws AssertionError if instantiation is attempted
+     */
+    private KeyedSort() {
+        throw new AssertionError("KeyedSort class should not be instantiated");
+    }
+
+    /**
+     * Orders positions by double keys, matching Double.compare.
+     *
+     * @param keys key of each position (not modified)
+     * @param ascending whether to sort in ascending order
+     * @return permutation where position i holds the index of the i-th key in sorted order
+     */
+    public static int[] orderByDouble(double[] keys, boolean ascending) {
+        long[] images = new long[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            long bits = Double.doubleToLongBits(keys[i]);
+            // Negative doubles compare in reverse bit order, so flip their magnitude bits
+            images[i] = bits ^ ((bits >> 63) & Long.MAX_VALUE);
+        }
+        return radixOrder(images, ascending);
+    }
+
+    /**
+     * Orders positions by long keys.
+     *
+     * @param keys key of each position (not modified)
+     * @param ascending whether to sort in ascending order
+     * @return permutation where position i holds the index of the i-th key in sorted order
+     */
+    public static int[] orderByLong(long[] keys, boolean ascending) {
+        return radixOrder(keys.clone(), ascending);
+    }
+
+    /**
+     * Orders positions by int keys.
+     *
+     * @param keys key of each position (not modified)
+     * @param ascending whether to sort in ascending order
+     * @return permutation where position i holds the index of the i-th key in sorted order
+     */
+    public static int[] orderByInt(int[] keys, boolean ascending) {
+        long[] images = new long[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            images[i] = keys[i];
+        }
+        return radixOrder(images, ascending);
+    }
+
+    /**
+     * Stable LSD radix sort of positions by signed long keys.
+     * The keys array is used as scratch space and overwritten.
+     *
+     * @param keys signed keys, consumed by the sort
+     * @param ascending whether to sort in ascending order
+     * @return sorted permutation of positions
+     */
+    private static int[] radixOrder(long[] keys, boolean ascending) {
+        int n = keys.length;
+        int[] order = new int[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+            // Flip the sign bit so signed order becomes unsigned byte order;
+            // inverting every bit reverses it for descending sorts
+            keys[i] = ascending ? keys[i] ^ Long.MIN_VALUE : ~(keys[i] ^ Long.MIN_VALUE);
+        }
+
+        long[] keyBuffer = new long[n];
+        int[] orderBuffer = new int[n];
+        int[] counts = new int[257];
+        for (int shift = 0; shift < 64; shift += 8) {
+            Arrays.fill(counts, 0);
+            for (int i = 0; i < n; i++) {
+                counts[(int) ((keys[i] >>> shift) & 0xFF) + 1]++;
+            }
+            if (n == 0 || counts[(int) ((keys[0] >>> shift) & 0xFF) + 1] == n) {
+                continue; // Every key shares this byte - the pass would not reorder anything
+            }
+            for (int b = 0; b < 256; b++) {
+                counts[b + 1] += counts[b];
+            }
+            for (int i = 0; i < n; i++) {
+                int position = counts[(int) ((keys[i] >>> shift) & 0xFF)]++;
+                keyBuffer[position] = keys[i];
+                orderBuffer[position] = order[i];
+            }
+            long[] swapKeys = keys; keys = keyBuffer; keyBuffer = swapKeys;
+            int[] swapOrder = order; order = orderBuffer; orderBuffer = swapOrder;
+        }
+        return order;
+    }
+}
@@ -0,0 +1,166 @@
+package algorithms;
+
+import java.util.List;
+
+import models.Member;
+
+/**
+ * Packs prefix-plus-digits member IDs (such as M001, P002, S003) into a long.
+ *
+ * Encoded IDs can be compared, stored and searched as primitives instead of
+ * Strings. The layout (high to low bits) is:
+ * - 15 bits: prefix of 1-3 uppercase letters, base-27 with letters left-aligned
+ * - 40 bits: numeric part (up to 12 digits)
+ * - 4 bits: number of digits, so leading zeros survive a round trip
+ *
+ * Codes are always non-negative and order by prefix, then numeric value, then
+ * digit count. For a fixed-width scheme this matches String order; for mixed
+ * widths it gives natural numeric order (M9 before M10).
+ *
+ * IDs that do not follow the scheme encode to NOT_ENCODABLE, and callers
+ * should fall back to String comparison for them.
+ *
+ * @author ICT711 Student
+ * @version 1.0
+ */
+public final class MemberIdCodec {
+    /** Returned by encode for IDs that do not follow the prefix-plus-digits scheme */
+    public static final long NOT_ENCODABLE = -1L;
+
+    /** Maximum number of prefix letters supported */
+    public static final int MAX_PREFIX_LETTERS = 3;
+
+    /** Maximum number of digits supported in the numeric part */
+    public static final int MAX_DIGITS = 12;
+
+    private static final int WIDTH_BITS = 4;
+    private static final int VALUE_BITS = 40;
+    private static final long WIDTH_MASK = (1L << WIDTH_BITS) - 1;
+    private static final long VALUE_MASK = (1L << VALUE_BITS) - 1;
+    private static final int PREFIX_RADIX = 27;
+
+    /**
+     * Private constructor to prevent instantiation of utility class.
+     *
+     * @throws AssertionError if instantiation is attempted
+     */
+    private MemberIdCodec() {
+        throw new AssertionError("MemberIdCodec class should not be instantiated");
+    }
+
+    /**
+     * Encodes a member ID into a long.
+     *
+     * @param memberId ID to encode
+     * @return non-negative code, or NOT_ENCODABLE if the ID does not follow the scheme
+     */
+    public static long encode(String memberId) {
+        if (memberId == null) {
+            return NOT_ENCODABLE;
+        }
+
+        int length = memberId.length();
+        int prefixLength = 0;
+        while (prefixLength < length && isPrefixLetter(memberId.charAt(prefixLength))) {
+            prefixLength++;
+        }
+        int digits = length - prefixLength;
+        if (prefixLength == 0 || prefixLength > MAX_PREFIX_LETTERS || digits == 0 || digits > MAX_DIGITS) {
+            return NOT_ENCODABLE;
+        }
+
+        long value = 0;
+        for (int i = prefixLength; i < length; i++) {
+            char c = memberId.charAt(i);
+            if (c < '0' || c > '9') {
+                return NOT_ENCODABLE;
+            }
+            value = value * 10 + (c - '0');
+        }
+
+        long prefix = 0;
+        for (int i = 0; i < MAX_PREFIX_LETTERS; i++) {
+            prefix = prefix * PREFIX_RADIX + (i < prefixLength ? memberId.charAt(i) - 'A' + 1 : 0);
+        }
+
+        return (prefix << (VALUE_BITS + WIDTH_BITS)) | (value << WIDTH_BITS) | digits;
+    }
+
+    /**
+     * Decodes a code produced by encode back into the original ID.
+     *
+     * @param code code to decode
+     * @return original member ID
+     * @throws IllegalArgumentException if the code is NOT_ENCODABLE or malformed
+     */
+    public static String decode(long code) {
+        int digits = (int) (code & WIDTH_MASK);
+        if (code < 0 || digits == 0 || digits > MAX_DIGITS) {
+            throw new IllegalArgumentException("Invalid member ID code: " + code);
+        }
+
+        long value = (code >>> WIDTH_BITS) & VALUE_MASK;
+        long prefix = code >>> (VALUE_BITS + WIDTH_BITS);
+
+        char[] letters = new char[MAX_PREFIX_LETTERS];
+        for (int i = MAX_PREFIX_LETTERS - 1; i >= 0; i--) {
+            letters[i] = (char) (prefix % PREFIX_RADIX);
+            prefix /= PREFIX_RADIX;
+        }
+
+        StringBuilder id = new StringBuilder(MAX_PREFIX_LETTERS + digits);
+        for (char letter : letters) {
+            if (letter != 0) {
+                id.append((char) ('A' + letter - 1));
+            }
+        }
+        String number = Long.toString(value);
+        for (int i = number.length(); i < digits; i++) {
+            id.append('0');
+        }
+        return id.append(number).toString();
+    }
+
+    /**
+     * Checks whether an ID follows the prefix-plus-digits scheme.
+     *
+     * @param memberId ID to check
+     * @return true if the ID can be encoded
+     */
+    public static boolean isEncodable(String memberId) {
+        return encode(memberId) != NOT_ENCODABLE;
+    }
+
+    /**
+     * Returns the number of digits recorded in a code. Codes with the same
+     * digit count order exactly as their IDs do under String.compareTo.
+     *
+     * @param code code produced by encode
+     * @return digit count of the numeric part
+     */
+    public static int digitCount(long code) {
+        return (int) (code & WIDTH_MASK);
+    }
+
+    /**
+     * Encodes the IDs of all members in list order.
+     *
+     * @param members members whose IDs to encode
+     * @return codes in the same order, NOT_ENCODABLE for IDs outside the scheme
+     */
+    public static long[] encodeAll(List<Member> members) {
+        long[] codes = new long[members.size()];
+        for (int i = 0; i < codes.length; i++) {
+            codes[i] = encode(members.get(i).getMemberId());
+        }
+        return codes;
+    }
+
+    /**
+     * @param c character to test
+     * @return true if c is an ASCII uppercase letter
+     */
+    private static boolean isPrefixLetter(char c) {
+        return c >= 'A' && c <= 'Z';
+    }
+}
@@ -0,0 +1,179 @@
+package algorithms;
+
+import java.util.Arrays;
+
+/**
+ * Multikey (three-way radix) quicksort for String keys.
+ *
+ * Partitions on one character position at a time instead of comparing whole
+ * Strings, so a shared prefix is examined once per partition level rather
+ * than once per comparison. Keys are passed in as char arrays that callers
+ * extract once (NameCollation caches its collation keys in this form), and
+ * the sort returns a permutation of key positions rather than moving the
+ * keyed objects around.
+ *
+ * The resulting order is identical to String.compareTo (ascending) or its
+ * reverse (descending). Equal keys keep their input order, so the sort is
+ * stable in both directions.
+ *
+ * Time Complexity: O(n log n + total distinguishing prefix length) expected
+ * Space Complexity: O(n) for the permutation, O(log n) recursion depth
+ * Stability: Stable
+ *
+ * @author ICT711 Student
+ * @version 1.0
+ */
+public final class MultikeyQuickSort {
+    /** Subarrays at or below this size are finished with insertion sort */
+    static final int INSERTION_SORT_THRESHOLD = 12;
+
+    /**
+     * Private constructor to prevent instantiation of utility class.
+     *
+     * @throws AssertionError if instantiation is attempted
+     */
+    private MultikeyQuickSort() {
+        throw new AssertionError("MultikeyQuickSort class should not be instantiated");
+    }
+
+    /**
+     * Sorts keys and returns the resulting order as a permutation.
+     *
+     * @param keys character arrays of each key (not modified)
+     * @param ascending whether to sort in ascending order
+     * @return permutation where position i holds the index of the i-th smallest
+     *         (or largest, if descending) key
+     */
+    public static int[] sort(char[][] keys, boolean ascending) {
+        int[] order = new int[keys.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        sortRange(keys, order, 0, order.length - 1, 0, ascending ? 1 : -1);
+        return order;
+    }
+
+    /**
+     * Returns the character at a depth as a sortable int.
+     * End of key sorts before every character ascending and after every
+     * character descending, so shorter prefixes order the same way String does.
+     *
+     * @param key key to read
+     * @param depth character position
+     * @param direction 1 for ascending, -1 for descending
+     * @return comparable value at that position
+     */
+    private static int charAt(char[] key, int depth, int direction) {
+        return depth < key.length ? direction * key[depth] : -direction;
+    }
+
+    /**
+     * Sorts order[low..high] (inclusive) by key characters from depth onward.
+     * Only the two smaller of the three partitions are sorted recursively;
+     * the largest is continued in the loop, so each recursive call covers at
+     * most half the range and the stack stays O(log n) deep.
+     */
+    private static void sortRange(char[][] keys, int[] order, int low, int high, int depth, int direction) {
+        while (high - low > INSERTION_SORT_THRESHOLD) {
+            int pivot = medianOfThree(keys, order, low, low + (high - low) / 2, high, depth, direction);
+
+            // Three-way partition on the character at depth
+            int lt = low;
+            int gt = high;
+            int i = low;
+            while (i <= gt) {
+                int c = charAt(keys[order[i]], depth, direction);
+                if (c < pivot) {
+                    swap(order, lt++, i++);
+                } else if (c > pivot) {
+                    swap(order, i, gt--);
+                } else {
+                    i++;
+                }
+            }
+
+            boolean middleDone = pivot == -direction;
+            if (middleDone) {
+                // Every key in the middle ended here, so they are equal - restore input order
+                Arrays.sort(order, lt, gt + 1);
+            }
+            int lessSize = lt - low;
+            int greaterSize = high - gt;
+            int middleSize = gt - lt + 1;
+
+            if (!middleDone && middleSize >= lessSize && middleSize >= greaterSize) {
+                sortRange(keys, order, low, lt - 1, depth, direction);
+                sortRange(keys, order, gt + 1, high, depth, direction);
+                // Continue with the middle group one character deeper
+                low = lt;
+                high = gt;
+                depth++;
+            } else if (lessSize >= greaterSize) {
+                sortRange(keys, order, gt + 1, high, depth, direction);
+                if (!middleDone) {
+                    sortRange(keys, order, lt, gt, depth + 1, direction);
+                }
+                high = lt - 1;
+            } else {
+                sortRange(keys, order, low, lt - 1, depth, direction);
+                if (!middleDone) {
+                    sortRange(keys, order, lt, gt, depth + 1, direction);
+                }
+                low = gt + 1;
+            }
+        }
+        insertionSort(keys, order, low, high, depth, direction);
+    }
+
+    /**
+     * Stable insertion sort of order[low..high] comparing keys from depth onward.
+     * Equal keys are ordered by their original index.
+     */
+    private static void insertionSort(char[][] keys, int[] order, int low, int high, int depth, int direction) {
+        for (int i = low + 1; i <= high; i++) {
+            int current = order[i];
+            int j = i - 1;
+            while (j >= low && compareFrom(keys, order[j], current, depth, direction) > 0) {
+                order[j + 1] = order[j];
+                j--;
+            }
+            order[j + 1] = current;
+        }
+    }
+
+    /**
+     * Compares two keys from depth onward, breaking ties by original index.
+     */
+    private static int compareFrom(char[][] keys, int a, int b, int depth, int direction) {
+        char[] x = keys[a];
+        char[] y = keys[b];
+        int limit = Math.max(x.length, y.length);
+        for (int d = depth; d < limit; d++) {
+            int cx = charAt(x, d, direction);
+            int cy = charAt(y, d, direction);
+            if (cx != cy) {
+                return Integer.compare(cx, cy);
+            }
+        }
+        return Integer.compare(a, b);
+    }
+
+    /**
+     * Returns the median character value at depth of three positions.
+     */
+    private static int medianOfThree(char[][] keys, int[] order, int a, int b, int c, int depth, int direction) {
+        int x = charAt(keys[order[a]], depth, direction);
+        int y = charAt(keys[order[b]], depth, direction);
+        int z = charAt(keys[order[c]], depth, direction);
+        return Math.max(Math.min(x, y), Math.min(Math.max(x, y), z));
+    }
+
+    /**
+     * Swaps two permutation entries.
+     */
+    private static void swap(int[] order, int i, int j) {
+        int temp = order[i];
+        order[i] = order[j];
+        order[j] = temp;
+    }
+}
@@ -0,0 +1,112 @@
+package algorithms;
+
+import java.text.Collator;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import models.Member;
+
+/**
+ * Locale-aware ordering of members by full name.
+ *
+ * String.compareTo orders names by UTF-16 code unit, which puts every
+ * uppercase letter before every lowercase one and accented letters after
+ * 'z'. A Collator orders them the way people expect ("alice" before "Bob",
+ * "Émile" next to "Emile"), but comparing through it is slow. Instead, each
+ * full name is turned into CollationKey bytes once and cached here, each
+ * byte widened to a char so the cached key feeds MultikeyQuickSort as is;
+ * sorting then compares plain chars. The cache holds its names weakly, so a key
+ * is dropped once no member holds that name any more, and a renamed member
+ * simply looks up its new name.
+ *
+ * Time Complexity: O(n) key builds on first use, then a multikey quicksort of the keys
+ * Space Complexity: O(total key length) for the names still in use
+ * Stability: Stable
+ *
+ * @author ICT711 Student
+ * @version 1.0
+ */
+public final class NameCollation {
+    /** One collator per locale; getCollationKey on the JDK collators is synchronized */
+    private static final Map<Locale, Collator> COLLATORS = new ConcurrentHashMap<>();
+
+    /** Collation keys per locale (one char per key byte), keyed by full name; names are held weakly */
+    private static final Map<Locale, Map<String, char[]>> KEYS = new ConcurrentHashMap<>();
+
+    /**
+     * Private constructor to prevent instantiation of utility class.
+     *
+     * @throws AssertionError if instantiation is attempted
+     */
+    private NameCollation() {
+        throw new AssertionError("NameCollation class should not be instantiated");
+    }
+
+    /**
+     * Returns the collation key of a member's full name, computing and
+     * caching it if needed. Keys depend only on the name and locale, so
+     * members sharing a name share a key.
+     *
+     * @param member member whose name to key
+     * @param locale locale whose collation rules to use
+     * @return CollationKey bytes, each widened to a char in 0-255; compare
+     *         with Arrays.compare (do not modify)
+     */
+    public static char[] sortKey(Member member, Locale locale) {
+        String name = member.getFullName();
+        Map<String, char[]> keys = KEYS.computeIfAbsent(locale, l -> Collections.synchronizedMap(new WeakHashMap<>()));
+        char[] key = keys.get(name);
+        if (key == null) {
+            byte[] bytes = collator(locale).getCollationKey(name).toByteArray();
+            key = new char[bytes.length];
+            for (int i = 0; i < bytes.length; i++) {
+                key[i] = (char) (bytes[i] & 0xFF); // Unsigned, so chars order like Arrays.compareUnsigned on the bytes
+            }
+            keys.put(name, key);
+        }
+        return key;
+    }
+
+    /**
+     * Returns an ascending comparator by locale-aware full name.
+     *
+     * @param locale locale whose collation rules to use
+     * @return comparator over cached collation keys
+     */
+    public static Comparator<Member> comparator(Locale locale) {
+        return (a, b) -> Arrays.compare(sortKey(a, locale), sortKey(b, locale));
+    }
+
+    /**
+     * Orders members by locale-aware full name.
+     *
+     * @param members members to order (not modified)
+     * @param locale locale whose collation rules to use
+     * @param ascending whether to sort in ascending order
+     * @return permutation where position i holds the index of the i-th member in sorted order
+     */
+    public static int[] order(List<Member> members, Locale locale, boolean ascending) {
+        char[][] keys = new char[members.size()][];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = sortKey(members.get(i), locale);
+        }
+        return MultikeyQuickSort.sort(keys, ascending);
+    }
+
+    /**
+     * @return shared collator for a locale, with accents compared after decomposition
+     */
+    private static Collator collator(Locale locale) {
+        return COLLATORS.computeIfAbsent(locale, l -> {
+            Collator collator = Collator.getInstance(l);
+            collator.setDecomposition(Collator.CANONICAL_DECOMPOSITION);
+            return collator;
+        });
+    }
+}
@@ -0,0 +1,239 @@
+package algorithms;
+
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Parallel stable merge sort built on the Fork/Join framework.
+ *
+ * Unlike SortingAlgorithms.mergeSortByFee, which allocates two new lists on
+ * every merge call, this sort allocates a single auxiliary array up front and
+ * ping-pongs between it and the input array. Small runs are finished with
+ * insertion sort, and at the top levels both the recursive halves and the
+ * merges themselves are split across worker threads.
+ *
+ * Time Complexity: O(n log n) work, O(log³ n) span with parallel merging
+ * Space Complexity: O(n) - one auxiliary array
+ * Stability: Stable
+ *
+ * @author ICT711 Student
+ * @version 1.0
+ */
+public final class ParallelMergeSort {
+    /** Runs at or below this size are sorted with insertion sort */
+    static final int INSERTION_SORT_THRESHOLD = 32;
+
+    /** Ranges below this size are sorted sequentially instead of forking */
+    static final int PARALLEL_SORT_THRESHOLD = 8192;
+
+    /** Merges below this size are performed sequentially instead of forking */
+    static final int PARALLEL_MERGE_THRESHOLD = 8192;
+
+    /**
+     * Private constructor to prevent instantiation of utility class.
+     *
+     * @throws AssertionError if instantiation is attempted
+     */
+    private ParallelMergeSort() {
+        throw new AssertionError("ParallelMergeSort class should not be instantiated");
+    }
+
+    /**
+     * Sorts an array in place using the common Fork/Join pool.
+     *
+     * @param items array to sort
+     * @param comparator ordering to sort by
+     * @param <T> element type
+     */
+    public static <T> void sort(T[] items, Comparator<? super T> comparator) {
+        sort(items, comparator, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Sorts an array in place using the given Fork/Join pool.
+     *
+     * @param items array to sort
+     * @param comparator ordering to sort by
+     * @param pool pool whose parallelism bounds the number of worker threads
+     * @param <T> element type
+     */
+    public static <T> void sort(T[] items, Comparator<? super T> comparator, ForkJoinPool pool) {
+        if (items.length < 2) {
+            return;
+        }
+        T[] buffer = items.clone(); // The single auxiliary array, starting identical to the input
+        if (items.length < PARALLEL_SORT_THRESHOLD) {
+            sortSequential(buffer, items, 0, items.length, comparator);
+        } else {
+            pool.invoke(new SortTask<>(buffer, items, 0, items.length, comparator));
+        }
+    }
+
+    /**
+     * Sorts src[lo, hi) into dst[lo, hi) without forking.
+     * Both arrays must hold the same elements in that range on entry.
+     */
+    private static <T> void sortSequential(T[] src, T[] dst, int lo, int hi, Comparator<? super T> comparator) {
+        if (hi - lo <= INSERTION_SORT_THRESHOLD) {
+            insertionSort(dst, lo, hi, comparator);
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        // Swap roles so the sorted halves land in src, then merge them into dst
+        sortSequential(dst, src, lo, mid, comparator);
+        sortSequential(dst, src, mid, hi, comparator);
+        mergeSequential(src, dst, lo, mid, mid, hi, lo, comparator);
+    }
+
+    /**
+     * Stable insertion sort of items[lo, hi).
+     */
+    private static <T> void insertionSort(T[] items, int lo, int hi, Comparator<? super T> comparator) {
+        for (int i = lo + 1; i < hi; i++) {
+            T key = items[i];
+            int j = i - 1;
+            while (j >= lo && comparator.compare(items[j], key) > 0) {
+                items[j + 1] = items[j];
+                j--;
+            }
+            items[j + 1] = key;
+        }
+    }
+
+    /**
+     * Merges sorted runs src[lo1, hi1) and src[lo2, hi2) into dst starting at out.
+     * Ties are taken from the first run, which keeps the sort stable.
+     */
+    private static <T> void mergeSequential(T[] src, T[] dst, int lo1, int hi1, int lo2, int hi2,
+                                            int out, Comparator<? super T> comparator) {
+        int i = lo1;
+        int j = lo2;
+        while (i < hi1 && j < hi2) {
+            dst[out++] = comparator.compare(src[j], src[i]) < 0 ? src[j++] : src[i++];
+        }
+        while (i < hi1) {
+            dst[out++] = src[i++];
+        }
+        while (j < hi2) {
+            dst[out++] = src[j++];
+        }
+    }
+
+    /**
+     * Returns the first index in items[lo, hi) whose element is not less than key.
+     */
+    private static <T> int lowerBound(T[] items, int lo, int hi, T key, Comparator<? super T> comparator) {
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (comparator.compare(items[mid], key) < 0) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * Returns the first index in items[lo, hi) whose element is greater than key.
+     */
+    private static <T> int upperBound(T[] items, int lo, int hi, T key, Comparator<? super T> comparator) {
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (comparator.compare(items[mid], key) <= 0) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * Sorts src[lo, hi) into dst[lo, hi), forking both halves and the merge.
+     */
+    private static final class SortTask<T> extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final T[] src;
+        private final T[] dst;
+        private final int lo;
+        private final int hi;
+        private final Comparator<? super T> comparator;
+
+        SortTask(T[] src, T[] dst, int lo, int hi, Comparator<? super T> comparator) {
+            this.src = src;
+            this.dst = dst;
+            this.lo = lo;
+            this.hi = hi;
+            this.comparator = comparator;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo < PARALLEL_SORT_THRESHOLD) {
+                sortSequential(src, dst, lo, hi, comparator);
+                return;
+            }
+            int mid = (lo + hi) >>> 1;
+            invokeAll(new SortTask<>(dst, src, lo, mid, comparator),
+                      new SortTask<>(dst, src, mid, hi, comparator));
+            new MergeTask<>(src, dst, lo, mid, mid, hi, lo, comparator).compute();
+        }
+    }
+
+    /**
+     * Merges two sorted runs of src into dst, splitting large merges in two
+     * around the median of the longer run.
+     */
+    private static final class MergeTask<T> extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final T[] src;
+        private final T[] dst;
+        private final int lo1;
+        private final int hi1;
+        private final int lo2;
+        private final int hi2;
+        private final int out;
+        private final Comparator<? super T> comparator;
+
+        MergeTask(T[] src, T[] dst, int lo1, int hi1, int lo2, int hi2, int out, Comparator<? super T> comparator) {
+            this.src = src;
+            this.dst = dst;
+            this.lo1 = lo1;
+            this.hi1 = hi1;
+            this.lo2 = lo2;
+            this.hi2 = hi2;
+            this.out = out;
+            this.comparator = comparator;
+        }
+
+        @Override
+        protected void compute() {
+            int length1 = hi1 - lo1;
+            int length2 = hi2 - lo2;
+            if (length1 + length2 < PARALLEL_MERGE_THRESHOLD) {
+                mergeSequential(src, dst, lo1, hi1, lo2, hi2, out, comparator);
+                return;
+            }
+
+            // Split the longer run at its midpoint and the other run at the matching
+            // position. Equal elements from the first run always stay in front of
+            // equal elements from the second run, so the merge remains stable.
+            int split1;
+            int split2;
+            if (length1 >= length2) {
+                split1 = (lo1 + hi1) >>> 1;
+                split2 = lowerBound(src, lo2, hi2, src[split1], comparator);
+            } else {
+                split2 = (lo2 + hi2) >>> 1;
+                split1 = upperBound(src, lo1, hi1, src[split2], comparator);
+            }
+            int splitOut = out + (split1 - lo1) + (split2 - lo2);
+            invokeAll(new MergeTask<>(src, dst, lo1, split1, lo2, split2, out, comparator),
+                      new MergeTask<>(src, dst, split1, hi1, split2, hi2, splitOut, comparator));
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package algorithms;
 
 import models.Member;
+import models.MembershipType;
 import java.util.*;
 
 /**
@@ -14,6 +15,12 @@ import java.util.*;
  * 1. Linear Search - O(n) - Best for unsorted data
  * 2. Binary Search - O(log n) - Requires sorted data
  * 3. Hash-based Search - O(1) average - Uses HashMap for fast lookups
+ * 4. Interpolation Search - O(log log n) average - Sorted numeric keys (see MemberIdCodec)
+ * 
+ * Prepared Searchers (build once, query many):
+ * - HashSearcher - O(n) build, O(1) average per query
+ * - SortedArraySearcher - O(n log n) build, O(log n) per query
+ * - InterpolationSearcher - O(n log n) build, O(log log n) per query on evenly spread IDs
  * 
  * @author ICT711 Student
  * @version 1.0
@@ -149,19 +156,17 @@ public class SearchingAlgorithms {
      * Use Case: When users don't know exact spelling or want partial matches
      * 
      * @param members List of members to search
-     * @param searchTerm Partial name to search for (case-insensitive)
+     * @param searchTerm Partial name to search for (case- and accent-insensitive)
      * @return List of members whose names contain the search term
      */
     public static List<Member> fuzzySearchByName(List<Member> members, String searchTerm) {
         List<Member> results = new ArrayList<>();
-        String lowerSearchTerm = searchTerm.toLowerCase(); // Convert to lowercase for case-insensitive search
+        String searchKey = Member.toSearchKey(searchTerm); // Normalize the same way as the members' cached name keys
         
         // Check each member's name for the search term
         for (Member member : members) {
-            String fullName = member.getFullName().toLowerCase();
-            
             // Check if the name contains the search term
-            if (fullName.contains(lowerSearchTerm)) {
+            if (member.getNameSearchKey().contains(searchKey)) {
                 results.add(member);
             }
         }
@@ -225,11 +230,21 @@ public class SearchingAlgorithms {
                                                   int minRating, Boolean goalAchieved) {
         List<Member> results = new ArrayList<>();
         
+        // Resolve the type text once; each member then only needs a tag lookup
+        EnumSet<MembershipType> types = EnumSet.noneOf(MembershipType.class);
+        if (memberType != null) {
+            for (MembershipType type : MembershipType.values()) {
+                if (type.getDisplayName().contains(memberType)) {
+                    types.add(type);
+                }
+            }
+        }
+        
         for (Member member : members) {
             boolean matches = true; // Assume member matches until proven otherwise
             
             // Check member type criteria (if specified)
-            if (memberType != null && !member.getMemberType().contains(memberType)) {
+            if (memberType != null && !types.contains(member.getType())) {
                 matches = false;
             }
             
@@ -297,5 +312,365 @@ public class SearchingAlgorithms {
                            result2.getMemberId().equals(result3.getMemberId()));
         
         System.out.println("All algorithms consistent: " + allMatch);
+        
+        // Prepared searchers separate the one-time build from the per-query cost
+        System.out.println("\n=== Prepared Searcher Results (build once, query many) ===");
+        PreparedSearcher[] searchers = {
+            prepareHashSearcher(members),
+            prepareSortedArraySearcher(members),
+            prepareInterpolationSearcher(members)
+        };
+        for (PreparedSearcher searcher : searchers) {
+            searcher.search(targetId);
+            System.out.println(searcher.getName() + ": build " + searcher.getBuildTimeNanos() +
+                               " nanoseconds, query " + searcher.getAverageQueryTimeNanos() + " nanoseconds");
+        }
+    }
+    
+    // ========== PREPARED SEARCHERS ==========
+    
+    /**
+     * Builds a hash searcher over a snapshot of the given members.
+     * 
+     * @param members List of members to index
+     * @return searcher answering ID lookups in O(1) average time
+     */
+    public static HashSearcher prepareHashSearcher(List<Member> members) {
+        return new HashSearcher(members);
+    }
+    
+    /**
+     * Builds a sorted-array searcher over a snapshot of the given members.
+     * 
+     * @param members List of members to index (any order)
+     * @return searcher answering ID lookups by binary search
+     */
+    public static SortedArraySearcher prepareSortedArraySearcher(List<Member> members) {
+        return new SortedArraySearcher(members);
+    }
+    
+    /**
+     * Builds an interpolation searcher over a snapshot of the given members.
+     * 
+     * @param members List of members to index (any order)
+     * @return searcher answering ID lookups by interpolation search
+     */
+    public static InterpolationSearcher prepareInterpolationSearcher(List<Member> members) {
+        return new InterpolationSearcher(members);
+    }
+    
+    /**
+     * Base class for searchers that index a member snapshot once and then
+     * answer many ID lookups against it.
+     * 
+     * The index is built in the constructor and never changes afterwards, so
+     * later changes to the source list are not visible. Build cost and
+     * per-query cost are tracked separately so batch jobs can see both.
+     * Unlike the one-shot search methods above, queries do not print anything.
+     */
+    public abstract static class PreparedSearcher {
+        /** Time spent building the index */
+        private long buildTimeNanos;
+        
+        /** Number of queries answered so far */
+        private long queryCount;
+        
+        /** Total time spent answering queries */
+        private long totalQueryTimeNanos;
+        
+        /**
+         * Finds a member by ID using the prepared index.
+         * 
+         * @param memberId Target member ID to find
+         * @return Member object if found, null otherwise
+         */
+        public final Member search(String memberId) {
+            long startTime = System.nanoTime();
+            Member result = lookup(memberId);
+            totalQueryTimeNanos += System.nanoTime() - startTime;
+            queryCount++;
+            return result;
+        }
+        
+        /**
+         * Performs the actual lookup against the prepared index.
+         * 
+         * @param memberId Target member ID to find
+         * @return Member object if found, null otherwise
+         */
+        protected abstract Member lookup(String memberId);
+        
+        /** @return display name of this searcher */
+        public abstract String getName();
+        
+        /** @return number of members in the prepared index */
+        public abstract int size();
+        
+        /** @param buildTimeNanos time taken to build the index */
+        protected void setBuildTimeNanos(long buildTimeNanos) { this.buildTimeNanos = buildTimeNanos; }
+        
+        /** @return time taken to build the index in nanoseconds */
+        public long getBuildTimeNanos() { return buildTimeNanos; }
+        
+        /** @return number of queries answered so far */
+        public long getQueryCount() { return queryCount; }
+        
+        /** @return total time spent answering queries in nanoseconds */
+        public long getTotalQueryTimeNanos() { return totalQueryTimeNanos; }
+        
+        /** @return average time per query in nanoseconds (0 if no queries yet) */
+        public long getAverageQueryTimeNanos() {
+            return queryCount == 0 ? 0 : totalQueryTimeNanos / queryCount;
+        }
+    }
+    
+    /**
+     * Prepared hash searcher - builds the HashMap once instead of on every call
+     * like hashSearchById does.
+     * 
+     * Build: O(n) time, O(n) space
+     * Query: O(1) average case
+     */
+    public static class HashSearcher extends PreparedSearcher {
+        private final Map<String, Member> memberMap;
+        
+        /**
+         * Builds the hash index.
+         * 
+         * @param members List of members to index
+         */
+        public HashSearcher(List<Member> members) {
+            long startTime = System.nanoTime();
+            memberMap = buildMemberHashMap(members);
+            setBuildTimeNanos(System.nanoTime() - startTime);
+        }
+        
+        @Override
+        protected Member lookup(String memberId) {
+            return memberMap.get(memberId);
+        }
+        
+        @Override
+        public String getName() { return "Hash Searcher"; }
+        
+        @Override
+        public int size() { return memberMap.size(); }
+    }
+    
+    /**
+     * Prepared sorted-array searcher - sorts IDs once into parallel arrays and
+     * answers each query by binary search.
+     * 
+     * Build: O(n log n) time, O(n) space
+     * Query: O(log n)
+     */
+    public static class SortedArraySearcher extends PreparedSearcher {
+        private final String[] sortedIds;
+        private final Member[] sortedMembers;
+        
+        /**
+         * Builds the sorted index.
+         * 
+         * @param members List of members to index (any order)
+         */
+        public SortedArraySearcher(List<Member> members) {
+            long startTime = System.nanoTime();
+            sortedMembers = members.toArray(new Member[0]);
+            Arrays.sort(sortedMembers, Comparator.comparing(Member::getMemberId));
+            sortedIds = new String[sortedMembers.length];
+            for (int i = 0; i < sortedMembers.length; i++) {
+                sortedIds[i] = sortedMembers[i].getMemberId();
+            }
+            setBuildTimeNanos(System.nanoTime() - startTime);
+        }
+        
+        @Override
+        protected Member lookup(String memberId) {
+            int index = Arrays.binarySearch(sortedIds, memberId);
+            return index >= 0 ? sortedMembers[index] : null;
+        }
+        
+        @Override
+        public String getName() { return "Sorted Array Searcher"; }
+        
+        @Override
+        public int size() { return sortedIds.length; }
+    }
+    
+    /**
+     * Interpolation Search Algorithm - searches a SORTED long array by estimating
+     * where the target lies from the key values instead of always probing the middle.
+     * 
+     * Time Complexity: O(log log n) on evenly spread keys such as sequential
+     * encoded member IDs, O(log n) worst case thanks to a bisection fallback
+     * Space Complexity: O(1)
+     * 
+     * Prerequisite: Keys must be sorted in ascending order
+     * Best Use Case: Large arrays of evenly distributed numeric keys
+     * 
+     * @param sortedKeys Array of keys sorted ascending (e.g. from MemberIdCodec)
+     * @param target Key to find
+     * @return index of a matching key, or -1 if not present
+     */
+    public static int interpolationSearch(long[] sortedKeys, long target) {
+        int low = 0;
+        int high = sortedKeys.length - 1;
+        
+        while (low <= high && target >= sortedKeys[low] && target <= sortedKeys[high]) {
+            if (sortedKeys[high] == sortedKeys[low]) {
+                return low; // All keys in range equal the target
+            }
+            
+            int previousRange = high - low;
+            
+            // Estimate position assuming keys are evenly spread between low and high.
+            // Differences are taken in double, since long subtraction overflows for
+            // keys far apart, and the probe is clamped in case rounding overshoots
+            double fraction = ((double) target - sortedKeys[low]) / ((double) sortedKeys[high] - sortedKeys[low]);
+            int probe = low + (int) Math.min(high - low, Math.max(0, fraction * (high - low)));
+            
+            if (sortedKeys[probe] < target) {
+                low = probe + 1;
+            } else if (sortedKeys[probe] > target) {
+                high = probe - 1;
+            } else {
+                return probe;
+            }
+            
+            // Skewed keys (e.g. a gap between prefixes) can make interpolation crawl,
+            // so bisect whenever the probe failed to halve the range
+            if (low <= high && high - low > previousRange / 2) {
+                int middle = low + (high - low) / 2;
+                if (sortedKeys[middle] < target) {
+                    low = middle + 1;
+                } else if (sortedKeys[middle] > target) {
+                    high = middle - 1;
+                } else {
+                    return middle;
+                }
+            }
+        }
+        return -1;
+    }
+    
+    /**
+     * Prepared interpolation searcher - maps each ID to a numeric key once,
+     * then answers queries by interpolation search over the sorted keys.
+     * 
+     * When every ID follows the prefix-plus-digits scheme, keys come from
+     * MemberIdCodec and a key match is an exact ID match. Otherwise keys pack
+     * the leading ID characters in String order, and equal keys are resolved
+     * by comparing full IDs.
+     * 
+     * Build: O(n log n) time, O(n) space
+     * Query: O(log log n) on evenly spread IDs such as M001..M999, O(log n) worst case
+     */
+    public static class InterpolationSearcher extends PreparedSearcher {
+        /** Number of leading ID characters packed into each fallback key */
+        private static final int KEY_CHARS = 8;
+        
+        /** Whether keys are exact MemberIdCodec codes rather than fallback prefixes */
+        private final boolean exactKeys;
+        
+        private final long[] keys;
+        private final String[] sortedIds;
+        private final Member[] sortedMembers;
+        
+        /**
+         * Builds the interpolation index.
+         * 
+         * @param members List of members to index (any order)
+         */
+        public InterpolationSearcher(List<Member> members) {
+            long startTime = System.nanoTime();
+            int n = members.size();
+            long[] codes = MemberIdCodec.encodeAll(members);
+            boolean allEncodable = true;
+            for (long code : codes) {
+                if (code == MemberIdCodec.NOT_ENCODABLE) {
+                    allEncodable = false;
+                    break;
+                }
+            }
+            exactKeys = allEncodable;
+            
+            // Sort positions by key so members and keys stay aligned
+            long[] unsortedKeys = new long[n];
+            for (int i = 0; i < n; i++) {
+                unsortedKeys[i] = exactKeys ? codes[i] : numericKey(members.get(i).getMemberId());
+            }
+            Integer[] order = new Integer[n];
+            for (int i = 0; i < n; i++) {
+                order[i] = i;
+            }
+            Comparator<Integer> byKey = Comparator.comparingLong(i -> unsortedKeys[i]);
+            Arrays.sort(order, exactKeys ? byKey : byKey.thenComparing(i -> members.get(i).getMemberId()));
+            
+            keys = new long[n];
+            sortedIds = new String[n];
+            sortedMembers = new Member[n];
+            for (int i = 0; i < n; i++) {
+                keys[i] = unsortedKeys[order[i]];
+                sortedMembers[i] = members.get(order[i]);
+                sortedIds[i] = sortedMembers[i].getMemberId();
+            }
+            setBuildTimeNanos(System.nanoTime() - startTime);
+        }
+        
+        /**
+         * Packs the first characters of an ID into a non-negative long whose
+         * ordering matches String ordering for 7-bit characters. IDs sharing
+         * the same leading characters get equal keys.
+         * 
+         * @param memberId ID to convert
+         * @return order-preserving numeric key
+         */
+        static long numericKey(String memberId) {
+            long key = 0;
+            for (int i = 0; i < KEY_CHARS; i++) {
+                int c = i < memberId.length() ? Math.min(memberId.charAt(i), 127) : 0;
+                key = (key << 7) | c;
+            }
+            return key;
+        }
+        
+        @Override
+        protected Member lookup(String memberId) {
+            if (exactKeys) {
+                long code = MemberIdCodec.encode(memberId);
+                if (code == MemberIdCodec.NOT_ENCODABLE) {
+                    return null;
+                }
+                int index = interpolationSearch(keys, code);
+                return index >= 0 ? sortedMembers[index] : null;
+            }
+            
+            long target = numericKey(memberId);
+            int index = interpolationSearch(keys, target);
+            if (index < 0) {
+                return null;
+            }
+            
+            // Expand to the run of equal keys and resolve by full ID
+            int low = index;
+            int high = index;
+            while (low > 0 && keys[low - 1] == target) {
+                low--;
+            }
+            while (high < keys.length - 1 && keys[high + 1] == target) {
+                high++;
+            }
+            int match = Arrays.binarySearch(sortedIds, low, high + 1, memberId);
+            return match >= 0 ? sortedMembers[match] : null;
+        }
+        
+        /** @return true if keys are exact encoded IDs rather than fallback prefixes */
+        public boolean usesEncodedIds() { return exactKeys; }
+        
+        @Override
+        public String getName() { return "Interpolation Searcher"; }
+        
+        @Override
+        public int size() { return keys.length; }
     }
 }
\ No newline at end of file
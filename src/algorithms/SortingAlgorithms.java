@@ -1,7 +1,12 @@
 package algorithms;
 
 import models.Member;
+import constants.Constants;
 import java.util.*;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 /**
  * Implementation of various sorting algorithms for the Member Management System.
@@ -15,8 +20,15 @@ import java.util.*;
  * 2. Selection Sort - O(n²) - Good for small datasets
  * 3. Insertion Sort - O(n²) best case O(n) - Efficient for small/nearly sorted data
  * 4. Merge Sort - O(n log n) - Stable, consistent performance
- * 5. Quick Sort - O(n log n) average, O(n²) worst - Generally fastest
+ * 5. Quick Sort - O(n log n) - Three-way introsort, heap sort fallback on deep recursion
  * 6. Heap Sort - O(n log n) - Consistent, in-place
+ * 7. Parallel Merge Sort - O(n log n) - Stable, multi-core, single buffer (see ParallelMergeSort)
+ * 8. Counting Sort - O(n + k) - Stable, for keys with few possible values (rating, type)
+ * 9. Radix Sort - O(n) - Stable, for arbitrary int keys in four 8-bit passes
+ * 10. String Sort - multikey quicksort on String keys extracted once (see MultikeyQuickSort)
+ * 11. Keyed Sort - decorate-sort-undecorate on primitive keys computed once (see KeyedSort)
+ * 12. Multi-Key Sort - several fields packed into primitive long keys (see CompositeKeySort)
+ * 13. Adaptive Sort - profiles the input and picks one of the sorts above (see AdaptiveSort)
  * 
  * @author ICT711 Student
  * @version 1.0
@@ -129,6 +141,9 @@ public class SortingAlgorithms {
      * Best Use Case: Small datasets, nearly sorted data, online algorithm
      * Characteristics: Adaptive, simple, efficient for small data
      * 
+     * Names are compared with the locale-aware collation keys cached by
+     * NameCollation, not String.compareTo.
+     * 
      * @param members List of members to sort by full name
      * @return New sorted list (original list unchanged)
      */
@@ -138,6 +153,8 @@ public class SortingAlgorithms {
         int comparisons = 0;
         int shifts = 0;
         
+        Comparator<Member> byName = NameCollation.comparator(Constants.NAME_SORT_LOCALE);
+        
         System.out.println("Starting Insertion Sort on " + n + " members by name...");
         
         // Insertion sort implementation
@@ -148,7 +165,7 @@ public class SortingAlgorithms {
             // Move elements greater than key one position ahead
             while (j >= 0) {
                 comparisons++;
-                if (sortedList.get(j).getFullName().compareTo(key.getFullName()) > 0) {
+                if (byName.compare(sortedList.get(j), key) > 0) {
                     sortedList.set(j + 1, sortedList.get(j));
                     j--;
                     shifts++;
@@ -256,11 +273,78 @@ public class SortingAlgorithms {
         }
     }
     
+    /**
+     * Parallel Merge Sort Algorithm - Fork/Join merge sort on any key.
+     * 
+     * Time Complexity: O(n log n) work, split across all available cores
+     * Space Complexity: O(n) - a single auxiliary array allocated once
+     * Stability: Stable
+     * 
+     * Best Use Case: Large rosters (tens of thousands of members or more)
+     * Characteristics: No per-merge allocation, insertion sort on small runs,
+     * parallel merging at the top levels
+     * 
+     * @param members List of members to sort
+     * @param comparator Ordering to sort by
+     * @return New sorted list (original list unchanged)
+     */
+    public static List<Member> parallelMergeSort(List<Member> members, Comparator<? super Member> comparator) {
+        Member[] sortedArray = members.toArray(new Member[0]);
+        ParallelMergeSort.sort(sortedArray, comparator);
+        return new ArrayList<>(Arrays.asList(sortedArray));
+    }
+    
+    /**
+     * Parallel Merge Sort by monthly fee - computes each member's fee once
+     * up front rather than twice per comparison as mergeSortByFee does.
+     * 
+     * Time Complexity: O(n) fee calculations + O(n log n) comparisons
+     * Space Complexity: O(n)
+     * Stability: Stable
+     * 
+     * @param members List of members to sort by monthly fee (ascending)
+     * @return New sorted list (original list unchanged)
+     */
+    public static List<Member> parallelMergeSortByFee(List<Member> members) {
+        System.out.println("Starting Parallel Merge Sort on " + members.size() + " members by monthly fee...");
+        FeeKeyedMember[] keyed = new FeeKeyedMember[members.size()];
+        for (int i = 0; i < keyed.length; i++) {
+            Member member = members.get(i);
+            keyed[i] = new FeeKeyedMember(member.calculateMonthlyFee(), member);
+        }
+        
+        ParallelMergeSort.sort(keyed, (a, b) -> Double.compare(a.fee, b.fee));
+        
+        List<Member> sortedList = new ArrayList<>(keyed.length);
+        for (FeeKeyedMember entry : keyed) {
+            sortedList.add(entry.member);
+        }
+        System.out.println("Parallel Merge Sort completed");
+        return sortedList;
+    }
+    
+    /**
+     * Member paired with its precomputed monthly fee for keyed sorting.
+     */
+    private static final class FeeKeyedMember {
+        private final double fee;
+        private final Member member;
+        
+        FeeKeyedMember(double fee, Member member) {
+            this.fee = fee;
+            this.member = member;
+        }
+    }
+    
     /**
      * Quick Sort Algorithm - divide and conquer using a pivot element.
      * 
-     * Time Complexity: O(n log n) average case, O(n²) worst case
-     * Space Complexity: O(log n) average case due to recursion
+     * Member type has only three distinct values, so a classic two-way
+     * partition degrades to O(n²) with deep recursion here. This delegates to
+     * introSort, whose three-way partition groups equal types in one pass.
+     * 
+     * Time Complexity: O(n log n) worst case (O(n) for few distinct types)
+     * Space Complexity: O(log n) recursion
      * Stability: Not stable
      * 
      * Best Use Case: Large datasets, when average case performance is important
@@ -271,60 +355,156 @@ public class SortingAlgorithms {
      */
     public static List<Member> quickSortByType(List<Member> members) {
         System.out.println("Starting Quick Sort on " + members.size() + " members by type...");
-        List<Member> sortedList = new ArrayList<>(members);
-        quickSortRecursive(sortedList, 0, sortedList.size() - 1);
+        List<Member> sortedList = introSort(members, Comparator.comparingInt(member -> member.getType().getSortRank()));
         System.out.println("Quick Sort completed");
         return sortedList;
     }
     
     /**
-     * Recursive helper method for quick sort.
+     * Introsort Algorithm - three-way quicksort that falls back to heap sort
+     * when recursion gets too deep.
      * 
-     * @param list List to sort
-     * @param low Starting index
-     * @param high Ending index
+     * Uses median-of-three pivot selection and Dutch national flag
+     * partitioning (less / equal / greater), so duplicate-heavy keys cost
+     * O(n · distinct keys) instead of O(n²). Recursion always descends into the
+     * smaller side, and after 2·log2(n) levels the remaining range is heap
+     * sorted, so neither time nor stack depth can blow up on any input.
+     * 
+     * Time Complexity: O(n log n) worst case
+     * Space Complexity: O(log n) recursion
+     * Stability: Not stable
+     * 
+     * @param members List of members to sort
+     * @param comparator Ordering to sort by (any key)
+     * @return New sorted list (original list unchanged)
      */
-    private static void quickSortRecursive(List<Member> list, int low, int high) {
-        if (low < high) {
-            // Partition the array and get pivot index
-            int pivotIndex = partition(list, low, high);
-            
-            // Recursively sort elements before and after partition
-            quickSortRecursive(list, low, pivotIndex - 1);
-            quickSortRecursive(list, pivotIndex + 1, high);
-        }
+    public static List<Member> introSort(List<Member> members, Comparator<? super Member> comparator) {
+        Member[] items = members.toArray(new Member[0]);
+        int depthLimit = 2 * (32 - Integer.numberOfLeadingZeros(Math.max(items.length, 1)));
+        introSortRange(items, 0, items.length - 1, depthLimit, comparator);
+        return new ArrayList<>(Arrays.asList(items));
     }
     
+    /** Ranges at or below this size are finished with insertion sort */
+    private static final int INTROSORT_INSERTION_THRESHOLD = 16;
+    
     /**
-     * Partitions the array around a pivot element.
+     * Sorts items[low..high] (inclusive) by three-way quicksort, recursing into
+     * the smaller partition and looping on the larger one.
      * 
-     * @param list List to partition
+     * @param items Array to sort
      * @param low Starting index
      * @param high Ending index
-     * @return Index of pivot after partitioning
+     * @param depthLimit Remaining partition levels before switching to heap sort
+     * @param comparator Ordering to sort by
      */
-    private static int partition(List<Member> list, int low, int high) {
-        // Choose rightmost element as pivot
-        Member pivot = list.get(high);
-        int i = low - 1; // Index of smaller element
-        
-        for (int j = low; j < high; j++) {
-            // If current element is smaller than or equal to pivot
-            if (list.get(j).getMemberType().compareTo(pivot.getMemberType()) <= 0) {
-                i++;
-                // Swap elements
-                Member temp = list.get(i);
-                list.set(i, list.get(j));
-                list.set(j, temp);
+    private static void introSortRange(Member[] items, int low, int high, int depthLimit,
+                                       Comparator<? super Member> comparator) {
+        while (high - low > INTROSORT_INSERTION_THRESHOLD) {
+            if (depthLimit-- == 0) {
+                heapSortRange(items, low, high, comparator);
+                return;
+            }
+            
+            Member pivot = medianOfThree(items, low, low + (high - low) / 2, high, comparator);
+            
+            // Dutch national flag: [low, lt) < pivot, [lt, i) == pivot, (gt, high] > pivot
+            int lt = low;
+            int gt = high;
+            int i = low;
+            while (i <= gt) {
+                int comparison = comparator.compare(items[i], pivot);
+                if (comparison < 0) {
+                    swap(items, lt++, i++);
+                } else if (comparison > 0) {
+                    swap(items, i, gt--);
+                } else {
+                    i++;
+                }
+            }
+            
+            // Recurse on the smaller side to keep the stack O(log n)
+            if (lt - low < high - gt) {
+                introSortRange(items, low, lt - 1, depthLimit, comparator);
+                low = gt + 1;
+            } else {
+                introSortRange(items, gt + 1, high, depthLimit, comparator);
+                high = lt - 1;
             }
         }
         
-        // Swap pivot with element at i+1
-        Member temp = list.get(i + 1);
-        list.set(i + 1, list.get(high));
-        list.set(high, temp);
-        
-        return i + 1;
+        // Insertion sort for small ranges
+        for (int i = low + 1; i <= high; i++) {
+            Member key = items[i];
+            int j = i - 1;
+            while (j >= low && comparator.compare(items[j], key) > 0) {
+                items[j + 1] = items[j];
+                j--;
+            }
+            items[j + 1] = key;
+        }
+    }
+    
+    /**
+     * Returns the median of three elements, used as the partition pivot.
+     */
+    private static Member medianOfThree(Member[] items, int a, int b, int c, Comparator<? super Member> comparator) {
+        Member x = items[a];
+        Member y = items[b];
+        Member z = items[c];
+        if (comparator.compare(x, y) < 0) {
+            if (comparator.compare(y, z) < 0) {
+                return y;
+            }
+            return comparator.compare(x, z) < 0 ? z : x;
+        }
+        if (comparator.compare(x, z) < 0) {
+            return x;
+        }
+        return comparator.compare(y, z) < 0 ? z : y;
+    }
+    
+    /**
+     * Heap sorts items[low..high] (inclusive) in place - introsort's fallback
+     * when partitioning keeps producing unbalanced splits.
+     */
+    private static void heapSortRange(Member[] items, int low, int high, Comparator<? super Member> comparator) {
+        int n = high - low + 1;
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            siftDown(items, low, i, n, comparator);
+        }
+        for (int end = n - 1; end > 0; end--) {
+            swap(items, low, low + end);
+            siftDown(items, low, 0, end, comparator);
+        }
+    }
+    
+    /**
+     * Restores the max-heap property below root within a heap stored at items[offset..offset+heapSize).
+     */
+    private static void siftDown(Member[] items, int offset, int root, int heapSize, Comparator<? super Member> comparator) {
+        Member value = items[offset + root];
+        int child;
+        while ((child = 2 * root + 1) < heapSize) {
+            if (child + 1 < heapSize && comparator.compare(items[offset + child + 1], items[offset + child]) > 0) {
+                child++;
+            }
+            if (comparator.compare(items[offset + child], value) <= 0) {
+                break;
+            }
+            items[offset + root] = items[offset + child];
+            root = child;
+        }
+        items[offset + root] = value;
+    }
+    
+    /**
+     * Swaps two array elements.
+     */
+    private static void swap(Member[] items, int i, int j) {
+        Member temp = items[i];
+        items[i] = items[j];
+        items[j] = temp;
     }
     
     /**
@@ -379,13 +559,13 @@ public class SortingAlgorithms {
         
         // If left child exists and is greater than root
         if (leftChild < heapSize && 
-            list.get(leftChild).getJoinDate().isAfter(list.get(largest).getJoinDate())) {
+            list.get(leftChild).getJoinEpochDay() > list.get(largest).getJoinEpochDay()) {
             largest = leftChild;
         }
         
         // If right child exists and is greater than largest so far
         if (rightChild < heapSize && 
-            list.get(rightChild).getJoinDate().isAfter(list.get(largest).getJoinDate())) {
+            list.get(rightChild).getJoinEpochDay() > list.get(largest).getJoinEpochDay()) {
             largest = rightChild;
         }
         
@@ -401,54 +581,465 @@ public class SortingAlgorithms {
     }
     
     /**
-     * Custom comparison-based sort using Java's built-in TimSort (hybrid merge-insertion sort).
-     * This demonstrates how to use Java's optimized sorting with custom comparators.
+     * Counting Sort Algorithm - distributes members into one bucket per key value.
+     * 
+     * Time Complexity: O(n + k) where k is the number of possible key values
+     * Space Complexity: O(n + k)
+     * Stability: Stable (in both directions, equal keys keep their input order)
+     * 
+     * Best Use Case: Bounded integer keys such as performance rating (0-10)
+     * Characteristics: No comparisons at all, key extracted once per member
+     * 
+     * @param members List of members to sort
+     * @param key Integer key to sort by
+     * @param minKey Smallest possible key value (inclusive)
+     * @param maxKey Largest possible key value (inclusive)
+     * @param ascending Whether to sort in ascending order
+     * @return New sorted list (original list unchanged)
+     * @throws IllegalArgumentException if a key falls outside [minKey, maxKey]
+     */
+    public static List<Member> countingSort(List<Member> members, ToIntFunction<? super Member> key,
+                                            int minKey, int maxKey, boolean ascending) {
+        return applyOrder(members, countingOrder(members, key, minKey, maxKey, ascending));
+    }
+    
+    /**
+     * Computes the counting sort permutation for a bounded integer key.
+     * 
+     * @return permutation of positions in sorted order
+     * @throws IllegalArgumentException if a key falls outside [minKey, maxKey]
+     */
+    private static int[] countingOrder(List<Member> members, ToIntFunction<? super Member> key,
+                                       int minKey, int maxKey, boolean ascending) {
+        int[] buckets = new int[members.size()];
+        for (int i = 0; i < buckets.length; i++) {
+            int value = key.applyAsInt(members.get(i));
+            if (value < minKey || value > maxKey) {
+                throw new IllegalArgumentException("Key " + value + " outside range [" + minKey + ", " + maxKey + "]");
+            }
+            buckets[i] = value - minKey;
+        }
+        return bucketOrder(buckets, maxKey - minKey + 1, ascending);
+    }
+    
+    /**
+     * Counting Sort for enum-like keys - maps each distinct key value to a
+     * bucket in sorted key order, then counting-sorts by bucket.
      * 
-     * Time Complexity: O(n log n) worst case, O(n) best case
+     * Time Complexity: O(n + d log d) where d is the number of distinct keys
+     * Space Complexity: O(n + d)
+     * Stability: Stable
+     * 
+     * Best Use Case: Keys with a handful of distinct values such as member type
+     * 
+     * @param members List of members to sort
+     * @param key Comparable key to sort by (e.g. Member::getMemberType)
+     * @param ascending Whether to sort in ascending order
+     * @param <K> key type
+     * @return New sorted list (original list unchanged)
+     */
+    public static <K extends Comparable<? super K>> List<Member> countingSortByCategory(
+            List<Member> members, Function<? super Member, ? extends K> key, boolean ascending) {
+        return applyOrder(members, categoryOrder(members, key, ascending));
+    }
+    
+    /**
+     * Computes the counting sort permutation for an enum-like key.
+     * 
+     * @return permutation of positions in sorted order
+     */
+    private static <K extends Comparable<? super K>> int[] categoryOrder(
+            List<Member> members, Function<? super Member, ? extends K> key, boolean ascending) {
+        List<K> keys = new ArrayList<>(members.size());
+        Map<K, Integer> bucketOf = new HashMap<>();
+        for (Member member : members) {
+            K value = key.apply(member);
+            keys.add(value);
+            bucketOf.putIfAbsent(value, 0);
+        }
+        
+        // Number the distinct keys in sorted order so bucket order matches key order
+        List<K> distinct = new ArrayList<>(bucketOf.keySet());
+        Collections.sort(distinct);
+        for (int i = 0; i < distinct.size(); i++) {
+            bucketOf.put(distinct.get(i), i);
+        }
+        
+        int[] buckets = new int[members.size()];
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = bucketOf.get(keys.get(i));
+        }
+        return bucketOrder(buckets, distinct.size(), ascending);
+    }
+    
+    /**
+     * Radix Sort Algorithm (LSD) - stable counting sort on each byte of an int
+     * key, least significant byte first.
+     * 
+     * Time Complexity: O(n) - four passes regardless of key range
      * Space Complexity: O(n)
      * Stability: Stable
      * 
+     * Best Use Case: Integer keys with a range too wide for counting sort
+     * (e.g. encoded IDs, epoch days, fees in cents)
+     * 
+     * @param members List of members to sort
+     * @param key Integer key to sort by (any int value, including negatives)
+     * @param ascending Whether to sort in ascending order
+     * @return New sorted list (original list unchanged)
+     */
+    public static List<Member> radixSort(List<Member> members, ToIntFunction<? super Member> key, boolean ascending) {
+        int n = members.size();
+        int[] keys = new int[n];
+        Member[] items = members.toArray(new Member[0]);
+        for (int i = 0; i < n; i++) {
+            int value = key.applyAsInt(items[i]);
+            // Flip the sign bit so negative keys order before positive ones as unsigned bytes;
+            // inverting all bits instead reverses the order for descending sorts
+            keys[i] = ascending ? value ^ Integer.MIN_VALUE : ~(value ^ Integer.MIN_VALUE);
+        }
+        
+        int[] keyBuffer = new int[n];
+        Member[] itemBuffer = new Member[n];
+        int[] counts = new int[257];
+        for (int shift = 0; shift < 32; shift += 8) {
+            Arrays.fill(counts, 0);
+            for (int i = 0; i < n; i++) {
+                counts[((keys[i] >>> shift) & 0xFF) + 1]++;
+            }
+            if (n == 0 || counts[((keys[0] >>> shift) & 0xFF) + 1] == n) {
+                continue; // Every key shares this byte - the pass would not reorder anything
+            }
+            for (int b = 0; b < 256; b++) {
+                counts[b + 1] += counts[b];
+            }
+            for (int i = 0; i < n; i++) {
+                int position = counts[(keys[i] >>> shift) & 0xFF]++;
+                keyBuffer[position] = keys[i];
+                itemBuffer[position] = items[i];
+            }
+            int[] swapKeys = keys; keys = keyBuffer; keyBuffer = swapKeys;
+            Member[] swapItems = items; items = itemBuffer; itemBuffer = swapItems;
+        }
+        return new ArrayList<>(Arrays.asList(items));
+    }
+    
+    /**
+     * String Sort Algorithm - multikey quicksort over String keys extracted once.
+     * 
+     * Each member's key (e.g. ID or full name) is computed a single time and
+     * converted to a char array; the sort then partitions character by
+     * character instead of comparing whole Strings. Produces the same order as
+     * a stable sort with String.compareTo.
+     * 
+     * Time Complexity: O(n log n + total distinguishing prefix length) expected
+     * Space Complexity: O(n + total key length)
+     * Stability: Stable
+     * 
+     * Best Use Case: Sorting large rosters by ID or name
+     * 
+     * @param members List of members to sort
+     * @param key String key to sort by (e.g. Member::getMemberId, Member::getFullName)
+     * @param ascending Whether to sort in ascending order
+     * @return New sorted list (original list unchanged)
+     */
+    public static List<Member> stringSort(List<Member> members, Function<? super Member, String> key, boolean ascending) {
+        return applyOrder(members, stringOrder(members, key, ascending));
+    }
+    
+    /**
+     * Computes the multikey quicksort permutation for a String key.
+     * 
+     * @return permutation of positions in sorted order
+     */
+    private static int[] stringOrder(List<Member> members, Function<? super Member, String> key, boolean ascending) {
+        char[][] keys = new char[members.size()][];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = key.apply(members.get(i)).toCharArray();
+        }
+        return MultikeyQuickSort.sort(keys, ascending);
+    }
+    
+    /**
+     * Shared stable counting sort over precomputed bucket numbers.
+     * 
+     * @param buckets Bucket number of each member, in [0, bucketCount)
+     * @param bucketCount Number of buckets
+     * @param ascending Whether lower buckets come first
+     * @return permutation of positions in sorted order
+     */
+    private static int[] bucketOrder(int[] buckets, int bucketCount, boolean ascending) {
+        int[] starts = new int[bucketCount + 1];
+        for (int bucket : buckets) {
+            starts[(ascending ? bucket : bucketCount - 1 - bucket) + 1]++;
+        }
+        for (int b = 0; b < bucketCount; b++) {
+            starts[b + 1] += starts[b];
+        }
+        
+        int[] order = new int[buckets.length];
+        for (int i = 0; i < buckets.length; i++) {
+            int bucket = ascending ? buckets[i] : bucketCount - 1 - buckets[i];
+            order[starts[bucket]++] = i;
+        }
+        return order;
+    }
+    
+    /**
+     * Sorts members by one criteria, using the cheapest algorithm for each
+     * key instead of a single comparison sort:
+     * - id: multikey string quicksort over IDs extracted once (see stringSort)
+     * - name: multikey quicksort over the unsigned bytes of each member's
+     *   CollationKey for Constants.NAME_SORT_LOCALE, cached by NameCollation
+     *   so a name's key is only built the first time it is sorted
+     * - performance, type: counting sort, since the keys have few values
+     * - fee, joinDate: keyed radix sort, so each fee is calculated once
+     * 
+     * Time Complexity: O(n) for performance, type, fee and joinDate;
+     *   O(n log n + D) expected for id and name, where D is the total length
+     *   of the key prefixes (ID characters or collation key bytes) needed to
+     *   tell the keys apart, plus building the collation keys of names not
+     *   sorted before
+     * Space Complexity: O(n)
+     * Stability: Stable for every key; members with equal IDs, or names
+     *   with equal collation keys, keep their input order in both directions
+     * 
      * @param members List of members to sort
-     * @param sortBy Criteria to sort by ("id", "name", "performance", "fee", "type")
+     * @param sortBy Criteria to sort by ("id", "name", "performance", "fee", "type", "joinDate")
      * @param ascending Whether to sort in ascending order
      * @return New sorted list
      */
     public static List<Member> customSort(List<Member> members, String sortBy, boolean ascending) {
-        List<Member> sortedList = new ArrayList<>(members);
-        Comparator<Member> comparator;
+        List<Member> sortedList = applyOrder(members, sortOrder(members, sortBy, ascending));
         
-        // Choose comparator based on sort criteria
+        System.out.println("Custom sort completed: " + members.size() + " members sorted by " + 
+                          sortBy + " (" + (ascending ? "ascending" : "descending") + ")");
+        
+        return sortedList;
+    }
+    
+    /**
+     * Index Permutation Sort - sorts by the same criteria as customSort but
+     * returns the ordering instead of a reordered copy of the list.
+     * 
+     * Position i of the result holds the index in members of the i-th member
+     * in sorted order. At 4 bytes per member per ordering, many sort orders
+     * over one backing list can be kept at once without copying references.
+     * 
+     * Time Complexity: O(n) for performance/type/fee, O(n log n) expected for id/name
+     * Space Complexity: O(n) - the int[] permutation plus temporary keys
+     * Stability: Stable
+     * 
+     * @param members List of members to sort (not modified)
+     * @param sortBy Criteria to sort by ("id", "name", "performance", "fee", "type", "joinDate")
+     * @param ascending Whether to sort in ascending order
+     * @return Permutation of indices into members in sorted order
+     * @throws IllegalArgumentException if sortBy is not a supported criteria
+     */
+    public static int[] sortOrder(List<Member> members, String sortBy, boolean ascending) {
+        // Choose the cheapest sort for each key
+        switch (sortBy.toLowerCase()) {
+            case "id":
+                return stringOrder(members, Member::getMemberId, ascending);
+            case "name":
+                return NameCollation.order(members, Constants.NAME_SORT_LOCALE, ascending);
+            case "performance":
+                return countingOrder(members, Member::getPerformanceRating,
+                        Constants.MIN_PERFORMANCE_RATING, Constants.MAX_PERFORMANCE_RATING, ascending);
+            case "fee":
+                return doubleKeyOrder(members, Member::calculateMonthlyFee, ascending);
+            case "type":
+                return countingOrder(members, member -> member.getType().getSortRank(),
+                        0, Constants.MEMBER_TYPE_COUNT - 1, ascending);
+            case "joindate":
+                return dateKeyOrder(members, ascending);
+            default:
+                throw new IllegalArgumentException("Invalid sort criteria: " + sortBy);
+        }
+    }
+    
+    /**
+     * Returns a comparator that orders members the same way as customSort and
+     * sortOrder. Combined with a stable sort or merge it reproduces their
+     * output exactly, e.g. when merging runs that were sorted separately.
+     * 
+     * @param sortBy Criteria to sort by ("id", "name", "performance", "fee", "type", "joinDate")
+     * @param ascending Whether to sort in ascending order
+     * @return Comparator for the criteria and direction
+     * @throws IllegalArgumentException if sortBy is not a supported criteria
+     */
+    public static Comparator<Member> sortComparator(String sortBy, boolean ascending) {
+        Comparator<Member> comparator;
         switch (sortBy.toLowerCase()) {
             case "id":
                 comparator = Comparator.comparing(Member::getMemberId);
                 break;
             case "name":
-                comparator = Comparator.comparing(Member::getFullName);
+                comparator = NameCollation.comparator(Constants.NAME_SORT_LOCALE);
                 break;
             case "performance":
-                comparator = Comparator.comparing(Member::getPerformanceRating);
+                comparator = Comparator.comparingInt(Member::getPerformanceRating);
                 break;
             case "fee":
-                comparator = Comparator.comparing(Member::calculateMonthlyFee);
+                comparator = Comparator.comparingDouble(Member::calculateMonthlyFee);
                 break;
             case "type":
-                comparator = Comparator.comparing(Member::getMemberType);
+                comparator = Comparator.comparingInt(member -> member.getType().getSortRank());
+                break;
+            case "joindate":
+                comparator = Comparator.comparingInt(Member::getJoinEpochDay);
                 break;
             default:
                 throw new IllegalArgumentException("Invalid sort criteria: " + sortBy);
         }
+        return ascending ? comparator : comparator.reversed();
+    }
+    
+    /**
+     * Name Sort - orders members by full name using the collation rules of
+     * a locale, so case and accents sort the way readers expect. Collation
+     * keys are computed once per name and cached while the name is in use.
+     * 
+     * Time Complexity: O(n log n) expected byte comparisons
+     * Space Complexity: O(n) plus the cached keys
+     * Stability: Stable
+     * 
+     * @param members List of members to sort
+     * @param locale Locale whose collation rules to use
+     * @param ascending Whether to sort in ascending order
+     * @return New sorted list
+     */
+    public static List<Member> sortByName(List<Member> members, Locale locale, boolean ascending) {
+        return applyOrder(members, NameCollation.order(members, locale, ascending));
+    }
+    
+    /**
+     * Adaptive Sort - profiles the input (size, existing runs, sampled
+     * inversions and key cardinality) and sorts it with the strategy that
+     * fits best. Input that is already nearly sorted, such as an export in
+     * ID order with a few late additions, is finished by merging its runs.
+     * 
+     * Time Complexity: O(n) for sorted, low-cardinality or numeric input, O(n log n) otherwise
+     * Space Complexity: O(n)
+     * Stability: Stable
+     * 
+     * @param members List of members to sort
+     * @param sortBy Criteria to sort by ("id", "name", "performance", "fee", "type", "joinDate")
+     * @param ascending Whether to sort in ascending order
+     * @return New sorted list (identical to customSort's result) with the profile and chosen strategy
+     * @throws IllegalArgumentException if sortBy is not a supported criteria
+     */
+    public static AdaptiveSort.Result adaptiveSort(List<Member> members, String sortBy, boolean ascending) {
+        return AdaptiveSort.sort(members, sortBy, ascending);
+    }
+    
+    /**
+     * Multi-Key Sort - sorts by several criteria at once, the first being most
+     * significant (e.g. type, then performance descending, then ID).
+     * 
+     * The criteria are packed into primitive long keys and sorted with
+     * Arrays.sort instead of a chain of comparator lambdas. If a criteria
+     * cannot be packed (such as name) a composed comparator is used instead.
+     * 
+     * Time Complexity: O(n log n)
+     * Space Complexity: O(n)
+     * Stability: Stable
+     * 
+     * @param members List of members to sort
+     * @param sortBy Criteria in priority order ("id", "name", "performance", "fee", "type", "joinDate")
+     * @param ascending Direction of each criteria
+     * @return New sorted list
+     * @throws IllegalArgumentException if the criteria are empty, mismatched or unsupported
+     */
+    public static List<Member> multiKeySort(List<Member> members, String[] sortBy, boolean[] ascending) {
+        int[] order = CompositeKeySort.order(members, sortBy, ascending);
         
-        // Reverse comparator if descending order is requested
-        if (!ascending) {
-            comparator = comparator.reversed();
-        }
-        
-        // Use Java's optimized sorting algorithm
-        sortedList.sort(comparator);
-        
-        System.out.println("Custom sort completed: " + members.size() + " members sorted by " + 
-                          sortBy + " (" + (ascending ? "ascending" : "descending") + ")");
+        System.out.println("Multi-key sort completed: " + members.size() + " members sorted by " +
+                          String.join(", ", sortBy));
         
+        return applyOrder(members, order);
+    }
+    
+    /**
+     * Keyed Sort - decorate-sort-undecorate on a double key.
+     * 
+     * Each member's key is computed exactly once into a double array, the
+     * index permutation is sorted by those primitives (see KeyedSort), and the
+     * permutation is then applied. Use this for expensive keys such as
+     * calculateMonthlyFee, which a comparator would re-evaluate on every comparison.
+     * 
+     * Time Complexity: n key evaluations + O(n) radix passes
+     * Space Complexity: O(n)
+     * Stability: Stable
+     * 
+     * @param members List of members to sort
+     * @param key Key to sort by, evaluated once per member
+     * @param ascending Whether to sort in ascending order
+     * @return New sorted list (original list unchanged)
+     */
+    public static List<Member> sortByDoubleKey(List<Member> members, ToDoubleFunction<? super Member> key, boolean ascending) {
+        return applyOrder(members, doubleKeyOrder(members, key, ascending));
+    }
+    
+    /**
+     * Computes the keyed sort permutation for a double key.
+     * 
+     * @return permutation of positions in sorted order
+     */
+    private static int[] doubleKeyOrder(List<Member> members, ToDoubleFunction<? super Member> key, boolean ascending) {
+        double[] keys = new double[members.size()];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = key.applyAsDouble(members.get(i));
+        }
+        return KeyedSort.orderByDouble(keys, ascending);
+    }
+    
+    /**
+     * Keyed Sort - decorate-sort-undecorate on a long key
+     * (e.g. encoded member IDs or join epoch days).
+     * 
+     * Time Complexity: n key evaluations + O(n) radix passes
+     * Space Complexity: O(n)
+     * Stability: Stable
+     * 
+     * @param members List of members to sort
+     * @param key Key to sort by, evaluated once per member
+     * @param ascending Whether to sort in ascending order
+     * @return New sorted list (original list unchanged)
+     */
+    public static List<Member> sortByLongKey(List<Member> members, ToLongFunction<? super Member> key, boolean ascending) {
+        long[] keys = new long[members.size()];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = key.applyAsLong(members.get(i));
+        }
+        return applyOrder(members, KeyedSort.orderByLong(keys, ascending));
+    }
+    
+    /**
+     * Computes the keyed sort permutation for join dates, keyed by epoch day.
+     * 
+     * @return permutation of positions in sorted order
+     */
+    private static int[] dateKeyOrder(List<Member> members, boolean ascending) {
+        long[] keys = new long[members.size()];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = members.get(i).getJoinEpochDay();
+        }
+        return KeyedSort.orderByLong(keys, ascending);
+    }
+    
+    /**
+     * Builds a list by reading members in permutation order.
+     * 
+     * @param members Members in their original positions (random access list)
+     * @param order Permutation of positions
+     * @return New list with members.get(order[0]), members.get(order[1]), ...
+     */
+    public static List<Member> applyOrder(List<Member> members, int[] order) {
+        List<Member> sortedList = new ArrayList<>(order.length);
+        for (int index : order) {
+            sortedList.add(members.get(index));
+        }
         return sortedList;
     }
     
@@ -498,6 +1089,12 @@ public class SortingAlgorithms {
         endTime = System.nanoTime();
         System.out.println("Merge Sort: " + (endTime - startTime) + " nanoseconds");
         
+        // Parallel Merge Sort
+        startTime = System.nanoTime();
+        parallelMergeSortByFee(members);
+        endTime = System.nanoTime();
+        System.out.println("Parallel Merge Sort: " + (endTime - startTime) + " nanoseconds");
+        
         // Quick Sort
         startTime = System.nanoTime();
         quickSortByType(members);
@@ -510,19 +1107,27 @@ public class SortingAlgorithms {
         endTime = System.nanoTime();
         System.out.println("Heap Sort: " + (endTime - startTime) + " nanoseconds");
         
-        // Java's built-in sort (TimSort)
+        // Custom sort by ID (multikey string quicksort)
         startTime = System.nanoTime();
         customSort(members, "id", true);
         endTime = System.nanoTime();
-        System.out.println("Java TimSort: " + (endTime - startTime) + " nanoseconds");
+        System.out.println("Multikey String Sort: " + (endTime - startTime) + " nanoseconds");
+        
+        // Adaptive Sort
+        startTime = System.nanoTime();
+        AdaptiveSort.Result adaptive = adaptiveSort(members, "id", true);
+        endTime = System.nanoTime();
+        System.out.println("Adaptive Sort (" + adaptive.getStrategy() + "): " + (endTime - startTime) + " nanoseconds");
         
         System.out.println("\n=== Algorithm Complexity Summary ===");
         System.out.println("Bubble Sort: O(n²) time, O(1) space");
         System.out.println("Selection Sort: O(n²) time, O(1) space");
         System.out.println("Insertion Sort: O(n²) time, O(1) space");
         System.out.println("Merge Sort: O(n log n) time, O(n) space");
-        System.out.println("Quick Sort: O(n log n) avg time, O(log n) space");
+        System.out.println("Parallel Merge Sort: O(n log n) work across cores, O(n) space");
+        System.out.println("Quick Sort (introsort): O(n log n) time, O(log n) space");
         System.out.println("Heap Sort: O(n log n) time, O(1) space");
-        System.out.println("Java TimSort: O(n log n) time, O(n) space");
+        System.out.println("Multikey String Sort: O(n log n + distinguishing prefix length) expected time, O(n) space");
+        System.out.println("Adaptive Sort: O(n) to O(n log n) time depending on input, O(n) space");
     }
 }
\ No newline at end of file
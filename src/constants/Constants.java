@@ -1,5 +1,7 @@
 package constants;
 
+import java.util.Locale;
+
 /**
  * Application-wide constants for the Member Management System.
  * 
@@ -33,6 +35,15 @@ public final class Constants {
     /** CSV field delimiter character */
     public static final String CSV_DELIMITER = ",";
     
+    /** Number of members fetched per page by paginated queries */
+    public static final int DEFAULT_PAGE_SIZE = 100;
+    
+    /** Default fee schedule file, loaded at startup when present */
+    public static final String DEFAULT_FEE_SCHEDULE_FILE = "fee_schedule.properties";
+    
+    /** Most distinct values a shared field dictionary stores; later new values are kept as plain Strings */
+    public static final int FIELD_DICTIONARY_CAPACITY = 4096;
+    
     // ========== MEMBER TYPE CONSTANTS ==========
     /** Identifier for regular membership type in CSV and logic */
     public static final String MEMBER_TYPE_REGULAR = "Regular";
@@ -43,6 +54,18 @@ public final class Constants {
     /** Identifier for student membership type in CSV and logic */
     public static final String MEMBER_TYPE_STUDENT = "Student";
     
+    /** Numeric code of the regular membership type in fee tables and columnar data */
+    public static final byte TYPE_CODE_REGULAR = 0;
+    
+    /** Numeric code of the premium membership type in fee tables and columnar data */
+    public static final byte TYPE_CODE_PREMIUM = 1;
+    
+    /** Numeric code of the student membership type in fee tables and columnar data */
+    public static final byte TYPE_CODE_STUDENT = 2;
+    
+    /** Number of membership types */
+    public static final int MEMBER_TYPE_COUNT = 3;
+    
     // ========== DEFAULT VALUES ==========
     /** Default trainer name when not specified for premium members */
     public static final String DEFAULT_TRAINER_NAME = "Default Trainer";
@@ -112,6 +135,49 @@ public final class Constants {
     /** Base discount rate for all student members (30%) */
     public static final double STUDENT_BASE_DISCOUNT = 0.3;
     
+    // ========== ALGORITHM TUNING ==========
+    /** Bulk ID lookups switch from hash probing to sort-merge join when requested IDs * ratio >= roster size */
+    public static final int SORT_MERGE_JOIN_RATIO = 4;
+    
+    /** Default memory budget for external file sorts (64 MB) */
+    public static final long EXTERNAL_SORT_MEMORY_BUDGET = 64L * 1024 * 1024;
+    
+    /** Estimated heap bytes per parsed member, on top of its CSV line */
+    public static final int EXTERNAL_SORT_BYTES_PER_MEMBER = 512;
+    
+    /** Maximum number of sorted runs merged at once by an external sort */
+    public static final int EXTERNAL_SORT_MAX_FAN_IN = 64;
+    
+    /** Locale whose collation rules order members by name */
+    public static final Locale NAME_SORT_LOCALE = Locale.ENGLISH;
+    
+    /** Adaptive sort uses insertion sort at or below this many members */
+    public static final int ADAPTIVE_INSERTION_SORT_MAX = 32;
+    
+    /** Adaptive sort merges existing runs when the average sorted run is at least this long */
+    public static final int ADAPTIVE_MIN_AVERAGE_RUN = 32;
+    
+    /** Adaptive sort uses insertion sort when it expects at most this many inversions per member */
+    public static final int ADAPTIVE_MAX_INSERTION_INVERSIONS = 8;
+    
+    /** Adaptive sort merges existing runs when at most this fraction of sampled pairs are inverted */
+    public static final double ADAPTIVE_MAX_RUN_MERGE_INVERSION_RATIO = 0.02;
+    
+    /** Number of keys and pairs the adaptive sort samples to profile its input */
+    public static final int ADAPTIVE_SAMPLE_SIZE = 1024;
+    
+    /** Adaptive sort uses counting sort when the sample holds at most this many distinct keys */
+    public static final int ADAPTIVE_MAX_COUNTING_KEYS = 256;
+    
+    /** Adaptive sort considers parallel merge sort at or above this many members */
+    public static final int ADAPTIVE_PARALLEL_THRESHOLD = 50000;
+    
+    /** Batch fee evaluation splits across cores at or above this many members */
+    public static final int FEE_BATCH_PARALLEL_THRESHOLD = 65536;
+    
+    /** Members priced per parallel task in a batch fee evaluation */
+    public static final int FEE_BATCH_CHUNK_SIZE = 16384;
+    
     // ========== UI MENU CONSTANTS ==========
     /** Main menu title display */
     public static final String MENU_TITLE = "===== Member Management System - ICT711 =====";
@@ -206,6 +272,9 @@ public final class Constants {
     /** Success message format for loading members from file */
     public static final String MSG_MEMBERS_LOADED = "Loaded %d members from %s";
     
+    /** Message confirming a fee schedule was loaded */
+    public static final String MSG_FEE_SCHEDULE_LOADED = "Fee schedule loaded from %s";
+    
     /** Success message format for saving members to file */
     public static final String MSG_MEMBERS_SAVED = "Saved %d members to %s";
     
@@ -0,0 +1,57 @@
+package manager;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+import models.Member;
+
+/**
+ * Result of a bulk multi-ID lookup performed by MemberManager.
+ *
+ * Holds the members that were found (keyed by ID), the IDs that had no
+ * matching member, and the join strategy that was chosen for the lookup.
+ *
+ */
+public class BulkLookupResult {
+    /**
+     * Join strategy used to match requested IDs against the roster.
+     */
+    public enum Strategy {
+        /** Each requested ID is probed against a hash index of the roster */
+        HASH_PROBE,
+        /** Requested IDs are sorted and merged against the roster's sorted ID order */
+        SORT_MERGE
+    }
+
+    /** Members found, keyed by member ID */
+    private final Map<String, Member> found;
+
+    /** Requested IDs with no matching member */
+    private final Set<String> missingIds;
+
+    /** Strategy used to perform the lookup */
+    private final Strategy strategy;
+
+    /**
+     * Constructs a new bulk lookup result.
+     *
+     * @param found members found, keyed by member ID
+     * @param missingIds requested IDs with no matching member
+     * @param strategy strategy used to perform the lookup
+     */
+    public BulkLookupResult(Map<String, Member> found, Set<String> missingIds, Strategy strategy) {
+        this.found = Collections.unmodifiableMap(found);
+        this.missingIds = Collections.unmodifiableSet(missingIds);
+        this.strategy = strategy;
+    }
+
+    /** @return read-only map of found members keyed by member ID */
+    public Map<String, Member> getFound() { return found; }
+
+    /** @return read-only set of requested IDs that were not found */
+    public Set<String> getMissingIds() { return missingIds; }
+
+    /** @return join strategy used for this lookup */
+    public Strategy getStrategy() { return strategy; }
+}
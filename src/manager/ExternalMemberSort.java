@@ -0,0 +1,375 @@
+package manager;
+
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import models.Member;
+import constants.Constants;
+import algorithms.SortingAlgorithms;
+
+/**
+ * External merge sort for member CSV files that do not fit in memory.
+ *
+ * The input is read in chunks bounded by a memory budget. Each chunk is
+ * sorted in memory with SortingAlgorithms.sortOrder and spilled to a
+ * temporary run file; up to the configured parallelism chunks are sorted
+ * and written on worker threads while the next chunk is being read. The
+ * runs are then combined with a k-way merge driven by a loser tree, in
+ * several passes if there are more runs than the maximum fan-in.
+ *
+ * Rows are written back exactly as they were read, and rows that
+ * loadFromFile would skip are dropped. Equal keys keep their input order,
+ * so the output matches SortingAlgorithms.customSort on the whole file.
+ *
+ */
+public class ExternalMemberSort {
+    /** Approximate heap budget for chunks held in memory at once, in bytes */
+    private final long memoryBudget;
+
+    /** Number of chunks sorted and spilled concurrently */
+    private final int parallelism;
+
+    /** Directory for temporary run files, or null for the system default */
+    private final File tempDirectory;
+
+    /** Number of sorted runs spilled by the last sort */
+    private int lastRunCount;
+
+    /** Number of merge passes performed by the last sort */
+    private int lastMergePasses;
+
+    /**
+     * Constructs an external sorter with the default memory budget,
+     * using one worker per available processor.
+     */
+    public ExternalMemberSort() {
+        this(Constants.EXTERNAL_SORT_MEMORY_BUDGET, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructs an external sorter that spills to the system temp directory.
+     *
+     * @param memoryBudget approximate heap bytes to use for in-memory chunks (must be positive)
+     * @param parallelism number of chunks sorted concurrently (must be positive)
+     */
+    public ExternalMemberSort(long memoryBudget, int parallelism) {
+        this(memoryBudget, parallelism, null);
+    }
+
+    /**
+     * Constructs an external sorter.
+     *
+     * @param memoryBudget approximate heap bytes to use for in-memory chunks (must be positive)
+     * @param parallelism number of chunks sorted concurrently (must be positive)
+     * @param tempDirectory directory for temporary run files, or null for the system default
+     * @throws IllegalArgumentException if memoryBudget or parallelism is not positive
+     */
+    public ExternalMemberSort(long memoryBudget, int parallelism, File tempDirectory) {
+        if (memoryBudget <= 0) {
+            throw new IllegalArgumentException("Memory budget must be positive");
+        }
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("Parallelism must be positive");
+        }
+        this.memoryBudget = memoryBudget;
+        this.parallelism = parallelism;
+        this.tempDirectory = tempDirectory;
+    }
+
+    /**
+     * Sorts a member CSV file into another file.
+     *
+     * @param inputFile CSV file to sort (header line first)
+     * @param outputFile file to write the sorted CSV to
+     * @param sortBy criteria to sort by ("id", "name", "performance", "fee", "type", "joinDate")
+     * @param ascending whether to sort in ascending order
+     * @return number of members written
+     * @throws IOException if a file cannot be read or written
+     * @throws IllegalArgumentException if sortBy is not a supported criteria
+     */
+    public int sort(String inputFile, String outputFile, String sortBy, boolean ascending) throws IOException {
+        Comparator<Member> comparator = SortingAlgorithms.sortComparator(sortBy, ascending);
+        List<File> tempFiles = new ArrayList<>();
+        ExecutorService workers = Executors.newFixedThreadPool(parallelism);
+        lastRunCount = 0;
+        lastMergePasses = 0;
+
+        try {
+            List<File> runs = new ArrayList<>();
+            int count = createRuns(inputFile, outputFile, sortBy, ascending, runs, tempFiles, workers);
+            lastRunCount = runs.size();
+
+            int fanIn = Constants.EXTERNAL_SORT_MAX_FAN_IN;
+            while (runs.size() > fanIn) {
+                List<File> merged = new ArrayList<>();
+                for (int i = 0; i < runs.size(); i += fanIn) {
+                    File run = createTempFile(tempFiles);
+                    mergeRuns(runs.subList(i, Math.min(i + fanIn, runs.size())), run, comparator, false);
+                    merged.add(run);
+                }
+                runs = merged;
+                lastMergePasses++;
+            }
+            if (!runs.isEmpty()) {
+                mergeRuns(runs, new File(outputFile), comparator, true);
+                lastMergePasses++;
+            }
+
+            return count;
+        } finally {
+            workers.shutdownNow();
+            for (File file : tempFiles) {
+                file.delete();
+            }
+        }
+    }
+
+    /** @return number of sorted runs spilled by the last sort (0 if it fit in one chunk) */
+    public int getLastRunCount() { return lastRunCount; }
+
+    /** @return number of merge passes performed by the last sort */
+    public int getLastMergePasses() { return lastMergePasses; }
+
+    /**
+     * Reads the input in bounded chunks and spills each one as a sorted run.
+     * If the whole input fits in a single chunk it is written straight to
+     * the output and no runs are created.
+     *
+     * @return number of members read
+     */
+    private int createRuns(String inputFile, String outputFile, String sortBy, boolean ascending,
+                           List<File> runs, List<File> tempFiles, ExecutorService workers) throws IOException {
+        // One chunk being filled plus one per worker may be in memory at once
+        long chunkBudget = Math.max(1, memoryBudget / (parallelism + 1));
+        Deque<Future<File>> pending = new ArrayDeque<>();
+        int count = 0;
+
+        try (BufferedReader reader = new BufferedReader(new FileReader(inputFile))) {
+            reader.readLine(); // skip header
+
+            List<String> lines = new ArrayList<>();
+            List<Member> members = new ArrayList<>();
+            long chunkBytes = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                Member member = MemberManager.parseMember(line);
+                if (member == null) {
+                    continue;
+                }
+                lines.add(line);
+                members.add(member);
+                count++;
+                chunkBytes += 2L * line.length() + Constants.EXTERNAL_SORT_BYTES_PER_MEMBER;
+
+                if (chunkBytes >= chunkBudget) {
+                    if (pending.size() >= parallelism) {
+                        runs.add(await(pending.poll()));
+                    }
+                    File run = createTempFile(tempFiles);
+                    List<String> chunkLines = lines;
+                    List<Member> chunkMembers = members;
+                    pending.add(workers.submit(() -> writeSorted(chunkLines, chunkMembers, sortBy, ascending, run, false)));
+                    lines = new ArrayList<>();
+                    members = new ArrayList<>();
+                    chunkBytes = 0;
+                }
+            }
+
+            if (pending.isEmpty()) {
+                // Everything fit in one chunk - no runs needed
+                writeSorted(lines, members, sortBy, ascending, new File(outputFile), true);
+                return count;
+            }
+            if (!lines.isEmpty()) {
+                File run = createTempFile(tempFiles);
+                writeSorted(lines, members, sortBy, ascending, run, false);
+                pending.add(CompletableFuture.completedFuture(run));
+            }
+        }
+
+        while (!pending.isEmpty()) {
+            runs.add(await(pending.poll()));
+        }
+        return count;
+    }
+
+    /**
+     * Sorts one chunk in memory and writes its lines in sorted order.
+     *
+     * @return the file written
+     */
+    private static File writeSorted(List<String> lines, List<Member> members, String sortBy, boolean ascending,
+                                    File file, boolean writeHeader) throws IOException {
+        int[] order = SortingAlgorithms.sortOrder(members, sortBy, ascending);
+        try (BufferedWriter writer = new BufferedWriter(new FileWriter(file))) {
+            if (writeHeader) {
+                writer.write(Constants.CSV_HEADER);
+                writer.newLine();
+            }
+            for (int index : order) {
+                writer.write(lines.get(index));
+                writer.newLine();
+            }
+        }
+        return file;
+    }
+
+    /**
+     * Merges sorted runs into one sorted file with a loser tree. Ties are
+     * taken from the earlier run, which keeps the merge stable.
+     */
+    private void mergeRuns(List<File> runs, File output, Comparator<Member> comparator,
+                           boolean writeHeader) throws IOException {
+        // Share the memory budget between the input buffers
+        int bufferSize = (int) Math.max(8192, Math.min(1 << 20, memoryBudget / (runs.size() + 1)));
+        RunReader[] readers = new RunReader[runs.size()];
+        try (BufferedWriter writer = new BufferedWriter(new FileWriter(output), bufferSize)) {
+            for (int i = 0; i < readers.length; i++) {
+                readers[i] = new RunReader(runs.get(i), bufferSize);
+            }
+            if (writeHeader) {
+                writer.write(Constants.CSV_HEADER);
+                writer.newLine();
+            }
+
+            LoserTree tree = new LoserTree(readers, comparator);
+            while (!tree.isExhausted()) {
+                RunReader winner = tree.winner();
+                writer.write(winner.line);
+                writer.newLine();
+                winner.advance();
+                tree.replayWinner();
+            }
+        } finally {
+            for (RunReader reader : readers) {
+                if (reader != null) {
+                    reader.close();
+                }
+            }
+        }
+    }
+
+    /**
+     * Creates a temporary run file that is deleted when the sort finishes.
+     */
+    private File createTempFile(List<File> tempFiles) throws IOException {
+        File file = File.createTempFile("members-run-", ".csv", tempDirectory);
+        file.deleteOnExit();
+        tempFiles.add(file);
+        return file;
+    }
+
+    /**
+     * Waits for a spill task, unwrapping its failure.
+     */
+    private static File await(Future<File> spill) throws IOException {
+        try {
+            return spill.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("External sort interrupted");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IOException("Sorting a chunk failed", cause);
+        }
+    }
+
+    /**
+     * Sequential reader over one sorted run, holding its current line.
+     */
+    private static final class RunReader implements Closeable {
+        private final BufferedReader reader;
+        private String line;
+        private Member member;
+
+        RunReader(File run, int bufferSize) throws IOException {
+            this.reader = new BufferedReader(new FileReader(run), bufferSize);
+            advance();
+        }
+
+        /** Reads the next line, or marks the run exhausted at end of file */
+        void advance() throws IOException {
+            line = reader.readLine();
+            member = line == null ? null : MemberManager.parseMember(line);
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+
+    /**
+     * Tournament tree of losers over k runs. Each internal node keeps the run
+     * that lost the match played there, so after the winner advances only the
+     * log2(k) matches on its path to the root are replayed.
+     */
+    private static final class LoserTree {
+        private final RunReader[] runs;
+        private final Comparator<Member> comparator;
+        /** tree[0] is the overall winner, tree[1..k-1] the losers of each match */
+        private final int[] tree;
+
+        LoserTree(RunReader[] runs, Comparator<Member> comparator) {
+            this.runs = runs;
+            this.comparator = comparator;
+            this.tree = new int[runs.length];
+            // Start every node at a sentinel that wins every match, then enter each run
+            Arrays.fill(tree, runs.length);
+            for (int run = runs.length - 1; run >= 0; run--) {
+                replay(run);
+            }
+        }
+
+        /** @return run holding the smallest current line */
+        RunReader winner() {
+            return runs[tree[0]];
+        }
+
+        /** @return true once every run has been fully read */
+        boolean isExhausted() {
+            return runs.length == 0 || runs[tree[0]].member == null;
+        }
+
+        /** Re-plays the matches on the winner's path after it advanced */
+        void replayWinner() {
+            replay(tree[0]);
+        }
+
+        private void replay(int run) {
+            int winner = run;
+            for (int node = (run + runs.length) / 2; node > 0; node /= 2) {
+                if (beats(tree[node], winner)) {
+                    int loser = winner;
+                    winner = tree[node];
+                    tree[node] = loser;
+                }
+            }
+            tree[0] = winner;
+        }
+
+        /**
+         * @return true if run a should be output before run b
+         */
+        private boolean beats(int a, int b) {
+            int sentinel = runs.length;
+            if (a == sentinel || b == sentinel) {
+                return a == sentinel;
+            }
+            Member x = runs[a].member;
+            Member y = runs[b].member;
+            if (x == null || y == null) {
+                return y == null && (x != null || a < b);
+            }
+            int result = comparator.compare(x, y);
+            return result < 0 || (result == 0 && a < b);
+        }
+    }
+}
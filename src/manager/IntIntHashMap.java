@@ -0,0 +1,142 @@
+package manager;
+
+/**
+ * Open-addressing hash map from int keys to int values.
+ *
+ * Each key is stored next to its value in a single int array probed
+ * linearly, so an entry costs 8 bytes of array space rather than a node
+ * plus two boxed Integers as in HashMap, and a lookup touches one cache
+ * line. Key 0 marks an empty slot, so an entry with key 0 is kept in a
+ * separate field. The table doubles when it is half full.
+ *
+ * Entries cannot be removed; indexes built on this map are rebuilt instead.
+ *
+ */
+final class IntIntHashMap {
+    /** Key that marks an empty slot in the table */
+    private static final int FREE_KEY = 0;
+
+    /** Smallest table size */
+    private static final int MIN_CAPACITY = 16;
+
+    /** Slot i holds its key at 2i (FREE_KEY if empty) and its value at 2i + 1 */
+    private int[] table;
+
+    /** Number of slots in the table, a power of two */
+    private int capacity;
+
+    /** Whether key 0 is in the map */
+    private boolean hasZeroKey;
+
+    /** Value of key 0, if present */
+    private int zeroValue;
+
+    /** Number of entries, including key 0 */
+    private int size;
+
+    /**
+     * Constructs a map able to hold the given number of entries without growing.
+     *
+     * @param expectedSize expected number of entries
+     * @throws IllegalArgumentException if expectedSize is negative
+     */
+    IntIntHashMap(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Expected size cannot be negative: " + expectedSize);
+        }
+        capacity = tableSizeFor(expectedSize);
+        table = new int[capacity * 2];
+    }
+
+    /**
+     * @param key key to look up
+     * @param missingValue value to return if the key is absent
+     * @return value of the key, or missingValue if absent
+     */
+    int get(int key, int missingValue) {
+        if (key == FREE_KEY) {
+            return hasZeroKey ? zeroValue : missingValue;
+        }
+        int mask = capacity - 1;
+        for (int slot = mix(key) & mask; table[slot * 2] != FREE_KEY; slot = (slot + 1) & mask) {
+            if (table[slot * 2] == key) {
+                return table[slot * 2 + 1];
+            }
+        }
+        return missingValue;
+    }
+
+    /**
+     * Maps a key to a value, replacing any previous value.
+     *
+     * @param key key to map
+     * @param value value for the key
+     */
+    void put(int key, int value) {
+        if (key == FREE_KEY) {
+            if (!hasZeroKey) {
+                hasZeroKey = true;
+                size++;
+            }
+            zeroValue = value;
+            return;
+        }
+        int mask = capacity - 1;
+        int slot = mix(key) & mask;
+        while (table[slot * 2] != FREE_KEY) {
+            if (table[slot * 2] == key) {
+                table[slot * 2 + 1] = value;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        table[slot * 2] = key;
+        table[slot * 2 + 1] = value;
+        if (++size * 2 > capacity) {
+            rehash(capacity * 2);
+        }
+    }
+
+    /** @return number of entries */
+    int size() { return size; }
+
+    /**
+     * Moves every entry into a table of the given size.
+     */
+    private void rehash(int newCapacity) {
+        int[] oldTable = table;
+        table = new int[newCapacity * 2];
+        capacity = newCapacity;
+        int mask = newCapacity - 1;
+        for (int i = 0; i < oldTable.length; i += 2) {
+            int key = oldTable[i];
+            if (key != FREE_KEY) {
+                int slot = mix(key) & mask;
+                while (table[slot * 2] != FREE_KEY) {
+                    slot = (slot + 1) & mask;
+                }
+                table[slot * 2] = key;
+                table[slot * 2 + 1] = oldTable[i + 1];
+            }
+        }
+    }
+
+    /**
+     * @return power-of-two table size that keeps expectedSize entries at most half full
+     */
+    static int tableSizeFor(int expectedSize) {
+        int capacity = MIN_CAPACITY;
+        while (capacity / 2 < expectedSize) {
+            capacity *= 2;
+        }
+        return capacity;
+    }
+
+    /**
+     * Spreads key bits so that keys differing only in high bits land in different slots.
+     */
+    static int mix(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
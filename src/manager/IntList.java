@@ -0,0 +1,86 @@
+package manager;
+
+import java.util.Arrays;
+
+/**
+ * Growable list of ints backed by a single int array.
+ *
+ * Used for row-number lists in the manager's indexes, where a List of
+ * Integers would box every element and store a reference to it.
+ *
+ */
+final class IntList {
+    /** Capacity of a list created without a size hint */
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /** Elements; only the first size entries are in the list */
+    private int[] elements;
+
+    /** Number of elements in the list */
+    private int size;
+
+    /**
+     * Constructs an empty list.
+     */
+    IntList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty list able to hold the given number of elements without growing.
+     *
+     * @param capacity initial capacity
+     * @throws IllegalArgumentException if capacity is negative
+     */
+    IntList(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity cannot be negative: " + capacity);
+        }
+        elements = new int[capacity];
+    }
+
+    /**
+     * Appends an element, growing the array by half when it is full.
+     *
+     * @param value element to append
+     */
+    void add(int value) {
+        if (size == elements.length) {
+            elements = Arrays.copyOf(elements, Math.max(DEFAULT_CAPACITY, size + (size >> 1)));
+        }
+        elements[size++] = value;
+    }
+
+    /**
+     * @param index position of the element
+     * @return element at that position
+     * @throws IndexOutOfBoundsException if index is not in the list
+     */
+    int get(int index) {
+        return elements[checkIndex(index)];
+    }
+
+    /**
+     * Replaces an element.
+     *
+     * @param index position of the element
+     * @param value new element
+     * @throws IndexOutOfBoundsException if index is not in the list
+     */
+    void set(int index, int value) {
+        elements[checkIndex(index)] = value;
+    }
+
+    /** @return number of elements in the list */
+    int size() { return size; }
+
+    /**
+     * @return the index, if it is in the list
+     */
+    private int checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return index;
+    }
+}
@@ -0,0 +1,114 @@
+package manager;
+
+/**
+ * Open-addressing hash map from long keys to object values.
+ *
+ * Keys sit unboxed in a long array next to a parallel value array and are
+ * probed linearly, so an entry costs 12-16 bytes of array space rather than
+ * a node plus a boxed Long as in HashMap. A null value marks an empty slot,
+ * so null values are not allowed. The table doubles when it is half full.
+ *
+ * Entries cannot be removed; indexes built on this map are rebuilt instead.
+ *
+ * @param <V> type of the values
+ */
+final class LongObjectHashMap<V> {
+    /** Keys of the table; only meaningful where the value slot is non-null */
+    private long[] keys;
+
+    /** Values of the table; null marks an empty slot */
+    private Object[] values;
+
+    /** Number of entries */
+    private int size;
+
+    /**
+     * Constructs a map able to hold the given number of entries without growing.
+     *
+     * @param expectedSize expected number of entries
+     * @throws IllegalArgumentException if expectedSize is negative
+     */
+    LongObjectHashMap(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Expected size cannot be negative: " + expectedSize);
+        }
+        int capacity = IntIntHashMap.tableSizeFor(expectedSize);
+        keys = new long[capacity];
+        values = new Object[capacity];
+    }
+
+    /**
+     * @param key key to look up
+     * @return value of the key, or null if absent
+     */
+    @SuppressWarnings("unchecked")
+    V get(long key) {
+        int mask = keys.length - 1;
+        for (int slot = mix(key) & mask; values[slot] != null; slot = (slot + 1) & mask) {
+            if (keys[slot] == key) {
+                return (V) values[slot];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Maps a key to a value unless the key is already present.
+     *
+     * @param key key to map
+     * @param value value for the key
+     * @return true if the entry was added, false if the key was already present
+     * @throws IllegalArgumentException if value is null
+     */
+    boolean putIfAbsent(long key, V value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Value cannot be null");
+        }
+        int mask = keys.length - 1;
+        int slot = mix(key) & mask;
+        while (values[slot] != null) {
+            if (keys[slot] == key) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        if (++size * 2 > keys.length) {
+            rehash(keys.length * 2);
+        }
+        return true;
+    }
+
+    /** @return number of entries */
+    int size() { return size; }
+
+    /**
+     * Moves every entry into a table of the given size.
+     */
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        keys = new long[capacity];
+        values = new Object[capacity];
+        int mask = capacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldValues[i] != null) {
+                int slot = mix(oldKeys[i]) & mask;
+                while (values[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    /**
+     * Folds and spreads key bits so that keys differing only in high bits land in different slots.
+     */
+    private static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
@@ -0,0 +1,117 @@
+package manager;
+
+import java.util.*;
+
+import models.Member;
+import algorithms.SortingAlgorithms;
+
+/**
+ * Sorted views of the roster that MemberManager keeps up to date as members
+ * are added, removed and updated, instead of re-sorting on every request.
+ *
+ * Each view is a balanced tree ordered by its sort criteria, so inserting,
+ * removing or repositioning one member costs O(log n) per view. Views are
+ * built on first request and maintained from then on. Ties are broken by
+ * the order members were added, which makes every view match a stable sort
+ * of the roster (SortingAlgorithms.customSort).
+ *
+ * A member's sort keys must not change while it is in a tree, so the
+ * manager detaches a member before applying updates and attaches it again
+ * afterwards.
+ *
+ */
+class MaintainedSortedViews {
+    /** Views built so far, keyed by criteria and direction */
+    private final Map<String, TreeSet<Member>> views = new HashMap<>();
+
+    /** Order in which each member was added, used to break ties */
+    private final Map<Member, Long> sequence = new IdentityHashMap<>();
+
+    /** Sequence number for the next member added */
+    private long nextSequence;
+
+    /**
+     * Returns a live, read-only view of the roster in sorted order,
+     * building it from the given roster on first request.
+     *
+     * @param sortBy criteria to sort by ("id", "name", "performance", "fee", "type", "joinDate")
+     * @param ascending whether to sort in ascending order
+     * @param roster current members, used only when the view is first built
+     * @return unmodifiable live view
+     * @throws IllegalArgumentException if sortBy is not a supported criteria
+     */
+    Collection<Member> view(String sortBy, boolean ascending, Collection<Member> roster) {
+        String name = sortBy.toLowerCase() + (ascending ? ":asc" : ":desc");
+        TreeSet<Member> view = views.get(name);
+        if (view == null) {
+            Comparator<Member> byKey = SortingAlgorithms.sortComparator(sortBy, ascending);
+            view = new TreeSet<>(byKey.thenComparingLong(sequence::get));
+            view.addAll(roster);
+            views.put(name, view);
+        }
+        return Collections.unmodifiableCollection(view);
+    }
+
+    /**
+     * Records a new member and inserts it into every built view.
+     *
+     * @param member member added to the roster
+     */
+    void memberAdded(Member member) {
+        sequence.put(member, nextSequence++);
+        attach(member);
+    }
+
+    /**
+     * Removes a member from every built view and forgets it.
+     *
+     * @param member member removed from the roster
+     */
+    void memberRemoved(Member member) {
+        detach(member);
+        sequence.remove(member);
+    }
+
+    /**
+     * Removes a member from every built view before its sort keys change.
+     *
+     * @param member member about to be updated
+     */
+    void detach(Member member) {
+        for (TreeSet<Member> view : views.values()) {
+            view.remove(member);
+        }
+    }
+
+    /**
+     * Inserts a member into every built view at the position for its current keys.
+     *
+     * @param member member to insert
+     */
+    void attach(Member member) {
+        for (TreeSet<Member> view : views.values()) {
+            view.add(member);
+        }
+    }
+
+    /**
+     * Re-sorts every built view after many members' keys changed at once,
+     * e.g. when a new fee schedule changes every fee.
+     */
+    void reorderAll() {
+        for (TreeSet<Member> view : views.values()) {
+            List<Member> contents = new ArrayList<>(view);
+            view.clear();
+            view.addAll(contents);
+        }
+    }
+    
+    /**
+     * Discards every view and sequence number, e.g. before the roster is reloaded.
+     */
+    void clear() {
+        views.clear();
+        sequence.clear();
+        nextSequence = 0;
+    }
+}
@@ -0,0 +1,421 @@
+package manager;
+
+import java.time.LocalDate;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+import models.*;
+import constants.Constants;
+
+/**
+ * Struct-of-arrays copy of the roster for analytic scans.
+ *
+ * Each member field lives in its own array, indexed by row, so a scan that
+ * needs only ratings or fees walks one or two dense primitive arrays instead
+ * of dereferencing a polymorphic Member object per row. Row i always holds
+ * the member at position i of the manager's roster. Emails and phones are
+ * kept in the packed form Member uses (see EmailCodec and PhoneCodec) and
+ * decoded only when a row is read.
+ *
+ * Rows can be read back as Member objects for existing APIs; these are new
+ * objects built from the columns, so changing them does not change the store.
+ * Only MemberManager modifies the store.
+ *
+ */
+public class MemberColumnStore {
+    private static final int INITIAL_CAPACITY = 16;
+
+    // Primitive columns
+    private byte[] types;        // MembershipType.getCode() of each row; resolve with MembershipType.forCode
+    private int[] ratings;
+    private boolean[] goals;
+    private double[] baseFees;   // Effective base fee (the schedule's standard fee unless custom)
+    private boolean[] standardBaseFees; // Whether the base fee follows the schedule's standard fee
+    private int[] joinDays;      // LocalDate epoch day
+    private int[] sessions;      // Premium sessions per month, 0 for other types
+    private int[] emailDomains;  // EmailCodec domain code
+    private long[] phoneDigits;  // Phone digits packed by PhoneCodec
+    private int[] phoneFormats;  // PhoneCodec template code, or PhoneCodec.NOT_ENCODABLE
+
+    // Byte and String columns
+    private byte[][] emailLocalParts; // EmailCodec local-part bytes
+    private String[] phoneTexts;      // Phone text, only for phones PhoneCodec cannot pack
+    private String[] ids;
+    private String[] firstNames;
+    private String[] lastNames;
+    private String[] extras;     // Premium trainer name or student ID
+    private String[] universities;
+
+    /** Number of rows in use */
+    private int size;
+
+    /** Schedule the rows are priced with, the same one the roster's members use */
+    private final FeeSchedule feeSchedule;
+
+    /**
+     * Constructs an empty store.
+     *
+     * @param feeSchedule schedule the rows are priced with
+     */
+    MemberColumnStore(FeeSchedule feeSchedule) {
+        this.feeSchedule = feeSchedule;
+        allocate(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Builds a store holding the given members in list order.
+     *
+     * @param members members to copy into columns
+     * @param feeSchedule schedule the members are priced with
+     * @return new store with one row per member
+     */
+    static MemberColumnStore from(List<Member> members, FeeSchedule feeSchedule) {
+        MemberColumnStore store = new MemberColumnStore(feeSchedule);
+        store.allocate(Math.max(INITIAL_CAPACITY, members.size()));
+        for (Member member : members) {
+            store.append(member);
+        }
+        return store;
+    }
+
+    // ========== MUTATORS (MemberManager only) ==========
+
+    /**
+     * Appends a member as a new last row.
+     *
+     * @param member member to copy
+     * @return row index of the new row
+     */
+    int append(Member member) {
+        if (size == ids.length) {
+            allocate(size * 2);
+        }
+        set(size++, member);
+        return size - 1;
+    }
+
+    /**
+     * Overwrites a row with a member's current field values.
+     *
+     * @param row row to overwrite
+     * @param member member to copy
+     */
+    void set(int row, Member member) {
+        types[row] = member.getType().getCode();
+        ratings[row] = member.getPerformanceRating();
+        goals[row] = member.isGoalAchieved();
+        baseFees[row] = member.getBaseFee();
+        standardBaseFees[row] = member.hasStandardBaseFee();
+        joinDays[row] = member.getJoinEpochDay();
+        ids[row] = member.getMemberId();
+        firstNames[row] = member.getFirstName();
+        lastNames[row] = member.getLastName();
+        String email = member.getEmail();
+        emailDomains[row] = EmailCodec.domainCode(email);
+        emailLocalParts[row] = EmailCodec.localPart(email, emailDomains[row]);
+        String phone = member.getPhone();
+        phoneFormats[row] = PhoneCodec.formatCode(phone);
+        boolean packed = phoneFormats[row] != PhoneCodec.NOT_ENCODABLE;
+        phoneDigits[row] = packed ? PhoneCodec.digits(phone) : 0;
+        phoneTexts[row] = packed ? null : phone;
+        sessions[row] = 0;
+        extras[row] = null;
+        universities[row] = null;
+        switch (member.getType()) {
+            case PREMIUM:
+                PremiumMember pm = (PremiumMember) member;
+                sessions[row] = pm.getSessionsPerMonth();
+                extras[row] = pm.getTrainerName();
+                break;
+            case STUDENT:
+                StudentMember sm = (StudentMember) member;
+                extras[row] = sm.getStudentId();
+                universities[row] = sm.getUniversity();
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Removes a row, shifting later rows down by one to keep roster order.
+     *
+     * @param row row to remove
+     */
+    void remove(int row) {
+        int moved = size - row - 1;
+        System.arraycopy(types, row + 1, types, row, moved);
+        System.arraycopy(ratings, row + 1, ratings, row, moved);
+        System.arraycopy(goals, row + 1, goals, row, moved);
+        System.arraycopy(baseFees, row + 1, baseFees, row, moved);
+        System.arraycopy(standardBaseFees, row + 1, standardBaseFees, row, moved);
+        System.arraycopy(joinDays, row + 1, joinDays, row, moved);
+        System.arraycopy(sessions, row + 1, sessions, row, moved);
+        System.arraycopy(ids, row + 1, ids, row, moved);
+        System.arraycopy(firstNames, row + 1, firstNames, row, moved);
+        System.arraycopy(lastNames, row + 1, lastNames, row, moved);
+        System.arraycopy(emailDomains, row + 1, emailDomains, row, moved);
+        System.arraycopy(emailLocalParts, row + 1, emailLocalParts, row, moved);
+        System.arraycopy(phoneDigits, row + 1, phoneDigits, row, moved);
+        System.arraycopy(phoneFormats, row + 1, phoneFormats, row, moved);
+        System.arraycopy(phoneTexts, row + 1, phoneTexts, row, moved);
+        System.arraycopy(extras, row + 1, extras, row, moved);
+        System.arraycopy(universities, row + 1, universities, row, moved);
+        size--;
+        // Drop references from the vacated last row
+        ids[size] = firstNames[size] = lastNames[size] = phoneTexts[size] = extras[size] = universities[size] = null;
+        emailLocalParts[size] = null;
+    }
+
+    // ========== ROW ACCESS ==========
+
+    /** @return number of rows */
+    public int size() { return size; }
+
+    /** @return membership type of a row */
+    public MembershipType getType(int row) { return MembershipType.forCode(types[checkRow(row)]); }
+
+    /** @return performance rating of a row */
+    public int getRating(int row) { return ratings[checkRow(row)]; }
+
+    /** @return goal flag of a row */
+    public boolean isGoalAchieved(int row) { return goals[checkRow(row)]; }
+
+    /** @return base fee of a row */
+    public double getBaseFee(int row) { return baseFees[checkRow(row)]; }
+
+    /** @return whether a row's base fee is the fee schedule's standard fee for its type */
+    public boolean hasStandardBaseFee(int row) { return standardBaseFees[checkRow(row)]; }
+
+    /** @return fee schedule the rows are priced with */
+    public FeeSchedule getFeeSchedule() { return feeSchedule; }
+
+    /** @return join date of a row as a LocalDate epoch day */
+    public int getJoinEpochDay(int row) { return joinDays[checkRow(row)]; }
+
+    /** @return member ID of a row */
+    public String getMemberId(int row) { return ids[checkRow(row)]; }
+
+    /** @return email address of a row, decoded from its columns */
+    public String getEmail(int row) {
+        checkRow(row);
+        return EmailCodec.decode(emailLocalParts[row], emailDomains[row]);
+    }
+
+    /** @return phone number of a row, decoded from its columns */
+    public String getPhone(int row) {
+        checkRow(row);
+        return phoneFormats[row] == PhoneCodec.NOT_ENCODABLE ? phoneTexts[row] : PhoneCodec.decode(phoneDigits[row], phoneFormats[row]);
+    }
+
+    /**
+     * Builds a Member object from a row.
+     *
+     * @param row row to read
+     * @return new member of the row's type with the row's field values
+     */
+    public Member member(int row) {
+        String email = getEmail(row);
+        String phone = getPhone(row);
+        Member member;
+        switch (MembershipType.forCode(types[row])) {
+            case PREMIUM:
+                member = new PremiumMember(ids[row], firstNames[row], lastNames[row], email, phone,
+                                           extras[row], sessions[row]);
+                break;
+            case STUDENT:
+                member = new StudentMember(ids[row], firstNames[row], lastNames[row], email, phone,
+                                           extras[row], universities[row]);
+                break;
+            default:
+                member = new RegularMember(ids[row], firstNames[row], lastNames[row], email, phone);
+                break;
+        }
+        member.setFeeSchedule(feeSchedule);
+        if (!standardBaseFees[row]) {
+            member.setBaseFee(baseFees[row]);
+        }
+        member.setJoinDate(LocalDate.ofEpochDay(joinDays[row]));
+        member.setPerformanceRating(ratings[row]);
+        member.setGoalAchieved(goals[row]);
+        return member;
+    }
+
+    /**
+     * Returns a read-only list that builds a Member for each row on access.
+     *
+     * @return list view of the rows as members
+     */
+    public List<Member> asMembers() {
+        return new RowList();
+    }
+
+    // ========== COLUMN SCANS ==========
+
+    /**
+     * Counts rows of each type.
+     *
+     * @return counts indexed by MembershipType.getCode()
+     */
+    public int[] countByType() {
+        int[] counts = new int[Constants.MEMBER_TYPE_COUNT];
+        for (int row = 0; row < size; row++) {
+            counts[types[row]]++;
+        }
+        return counts;
+    }
+
+    /**
+     * @return average performance rating, or 0 if the store is empty
+     */
+    public double averageRating() {
+        long total = 0;
+        for (int row = 0; row < size; row++) {
+            total += ratings[row];
+        }
+        return size == 0 ? 0 : (double) total / size;
+    }
+
+    /**
+     * @return number of rows whose goal flag is set
+     */
+    public int countGoalAchievers() {
+        int count = 0;
+        for (int row = 0; row < size; row++) {
+            if (goals[row]) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Finds rows whose rating lies in a range.
+     *
+     * @param minRating minimum rating (inclusive)
+     * @param maxRating maximum rating (inclusive)
+     * @return matching rows in ascending row order
+     */
+    public int[] rowsWithRating(int minRating, int maxRating) {
+        int[] rows = new int[size];
+        int count = 0;
+        for (int row = 0; row < size; row++) {
+            int rating = ratings[row];
+            if (rating >= minRating && rating <= maxRating) {
+                rows[count++] = row;
+            }
+        }
+        return Arrays.copyOf(rows, count);
+    }
+
+    /**
+     * Calculates one row's monthly fee from the columns under the store's
+     * fee schedule. Produces exactly the same value as the row's
+     * Member.calculateMonthlyFee.
+     *
+     * @param row row to price
+     * @return monthly fee of the row
+     */
+    public double monthlyFee(int row) {
+        checkRow(row);
+        return feeSchedule.monthlyFee(types[row], baseFees[row], sessions[row], ratings[row], goals[row]);
+    }
+
+    /**
+     * Prices every row under a fee schedule in one batch pass over the fee
+     * columns. The rows themselves are not changed.
+     *
+     * @param schedule schedule to price with
+     * @return monthly fee of each row
+     */
+    public double[] monthlyFees(FeeSchedule schedule) {
+        return schedule.monthlyFees(types, baseFees, sessions, ratings, goals, size);
+    }
+
+    /**
+     * @return sum of the monthly fees of all rows under the store's fee schedule
+     */
+    public double totalMonthlyFees() {
+        double total = 0;
+        for (double fee : monthlyFees(feeSchedule)) {
+            total += fee; // Summed in row order, like a loop over the roster
+        }
+        return total;
+    }
+
+    // ========== RAW COLUMNS (package batch scans only, do not modify) ==========
+
+    /** @return type column; only the first size() entries are rows */
+    byte[] typeColumn() { return types; }
+
+    /** @return base fee column; only the first size() entries are rows */
+    double[] baseFeeColumn() { return baseFees; }
+
+    /** @return standard base fee flag column; only the first size() entries are rows */
+    boolean[] standardBaseFeeColumn() { return standardBaseFees; }
+
+    /** @return sessions column; only the first size() entries are rows */
+    int[] sessionColumn() { return sessions; }
+
+    /** @return rating column; only the first size() entries are rows */
+    int[] ratingColumn() { return ratings; }
+
+    /** @return goal column; only the first size() entries are rows */
+    boolean[] goalColumn() { return goals; }
+
+    // ========== INTERNALS ==========
+
+    /**
+     * Grows (or first creates) every column to the given capacity.
+     */
+    private void allocate(int capacity) {
+        if (ids != null && capacity <= ids.length) {
+            return;
+        }
+        types = types == null ? new byte[capacity] : Arrays.copyOf(types, capacity);
+        ratings = ratings == null ? new int[capacity] : Arrays.copyOf(ratings, capacity);
+        goals = goals == null ? new boolean[capacity] : Arrays.copyOf(goals, capacity);
+        baseFees = baseFees == null ? new double[capacity] : Arrays.copyOf(baseFees, capacity);
+        standardBaseFees = standardBaseFees == null ? new boolean[capacity] : Arrays.copyOf(standardBaseFees, capacity);
+        joinDays = joinDays == null ? new int[capacity] : Arrays.copyOf(joinDays, capacity);
+        sessions = sessions == null ? new int[capacity] : Arrays.copyOf(sessions, capacity);
+        ids = ids == null ? new String[capacity] : Arrays.copyOf(ids, capacity);
+        firstNames = firstNames == null ? new String[capacity] : Arrays.copyOf(firstNames, capacity);
+        lastNames = lastNames == null ? new String[capacity] : Arrays.copyOf(lastNames, capacity);
+        emailDomains = emailDomains == null ? new int[capacity] : Arrays.copyOf(emailDomains, capacity);
+        phoneDigits = phoneDigits == null ? new long[capacity] : Arrays.copyOf(phoneDigits, capacity);
+        phoneFormats = phoneFormats == null ? new int[capacity] : Arrays.copyOf(phoneFormats, capacity);
+        emailLocalParts = emailLocalParts == null ? new byte[capacity][] : Arrays.copyOf(emailLocalParts, capacity);
+        phoneTexts = phoneTexts == null ? new String[capacity] : Arrays.copyOf(phoneTexts, capacity);
+        extras = extras == null ? new String[capacity] : Arrays.copyOf(extras, capacity);
+        universities = universities == null ? new String[capacity] : Arrays.copyOf(universities, capacity);
+    }
+
+    /**
+     * @return the row, if it is in range
+     * @throws IndexOutOfBoundsException if the row does not exist
+     */
+    private int checkRow(int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("Row: " + row + ", Size: " + size);
+        }
+        return row;
+    }
+
+    /**
+     * Read-only list of rows as members.
+     */
+    private final class RowList extends AbstractList<Member> implements RandomAccess {
+        @Override
+        public Member get(int index) {
+            return member(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
@@ -2,11 +2,15 @@ package manager;
 
 // ========== MemberManager.java (Manager Class) ==========
 import java.io.*;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import models.*;
 import constants.Constants;
+import algorithms.MemberIdCodec;
 import algorithms.SearchingAlgorithms;
 import algorithms.SortingAlgorithms;
 
@@ -33,6 +37,45 @@ public class MemberManager {
     /** Currently loaded/default file name for persistence */
     private String currentFileName;
     
+    /** Lazily built index of members by encoded ID for bulk lookups (null when stale) */
+    private LongObjectHashMap<Member> idIndex;
+    
+    /** Members whose IDs MemberIdCodec cannot encode, by ID (built and discarded with idIndex) */
+    private Map<String, Member> unencodableIdIndex;
+    
+    /** Lazily built index of roster positions (null when stale) */
+    private MemberRowIndex rowIndex;
+    
+    /** Latest immutable version of the roster (null until first requested) */
+    private volatile RosterSnapshot rosterSnapshot;
+    
+    /** Version number of the latest roster snapshot */
+    private long rosterVersion;
+    
+    /** Lazily built members array in ID order for bulk lookups (null when stale) */
+    private Member[] idSortedMembers;
+    
+    /** Number of structural changes (add/remove/load) made to the roster */
+    private int modificationCount;
+    
+    /** Incrementally maintained sorted views of the roster */
+    private final MaintainedSortedViews maintainedViews;
+    
+    /** Columnar copy of the roster for analytic scans (null until first needed) */
+    private MemberColumnStore columnStore;
+    
+    /** Registered on every roster member so that changes made on the member reach the views and copies */
+    private final RosterObserver rosterObserver = new RosterObserver();
+    
+    /** Set while the manager changes many members itself and rebuilds the derived structures afterwards */
+    private boolean bulkChange;
+    
+    /** Fee schedule every roster member is priced with */
+    private FeeSchedule feeSchedule = FeeSchedule.DEFAULT;
+    
+    /** Number of monthly fees of roster members computed rather than served from cache */
+    private final LongAdder feeRecomputations = new LongAdder();
+    
     /**
      * Constructs a new MemberManager with empty member list.
      * Sets default file name for data persistence.
@@ -40,15 +83,39 @@ public class MemberManager {
     public MemberManager() {
         this.members = new ArrayList<>();
         this.currentFileName = Constants.DEFAULT_FILE_NAME;
+        this.maintainedViews = new MaintainedSortedViews();
     }
     
     /**
      * Adds a new member to the management system.
      * 
+     * A member belongs to one manager at a time, since it is priced with
+     * that manager's fee schedule; remove it from its current manager first.
+     * 
      * @param member the member object to add (cannot be null)
+     * @throws IllegalArgumentException if the member is held by another manager
      */
     public void addMember(Member member) {
+        for (MemberObserver observer : member.getObservers()) {
+            if (observer instanceof RosterObserver && observer != rosterObserver) {
+                throw new IllegalArgumentException("Member " + member.getMemberId() + " already belongs to another manager");
+            }
+        }
+        member.setFeeSchedule(feeSchedule);
+        member.addObserver(rosterObserver);
         members.add(member);
+        maintainedViews.memberAdded(member);
+        if (columnStore != null) {
+            columnStore.append(member);
+        }
+        if (rowIndex != null) {
+            rowIndex.appended(members.size() - 1);
+        }
+        RosterSnapshot snapshot = rosterSnapshot;
+        if (snapshot != null) {
+            publishRoster(snapshot.vector().append(MemberSnapshot.of(member)));
+        }
+        rosterChanged();
         System.out.printf(Constants.MSG_MEMBER_ADDED, member.getFullName(), member.getMemberId());
         System.out.println();
     }
@@ -60,8 +127,34 @@ public class MemberManager {
      * @return true if member was found and removed, false otherwise
      */
     public boolean removeMember(String memberId) {
-        boolean removed = members.removeIf(m -> m.getMemberId().equals(memberId));
+        boolean removed = false;
+        boolean[] removedRows = new boolean[members.size()]; // Positions before the removal
+        Iterator<Member> iterator = members.iterator();
+        int row = 0;
+        int position = 0;
+        while (iterator.hasNext()) {
+            Member member = iterator.next();
+            if (member.getMemberId().equals(memberId)) {
+                iterator.remove();
+                removedRows[position] = true;
+                member.removeObserver(rosterObserver);
+                maintainedViews.memberRemoved(member);
+                if (columnStore != null) {
+                    columnStore.remove(row);
+                }
+                rowIndex = null; // Later rows moved up
+                removed = true;
+            } else {
+                row++;
+            }
+            position++;
+        }
         if (removed) {
+            RosterSnapshot snapshot = rosterSnapshot;
+            if (snapshot != null) {
+                publishRoster(withoutRows(snapshot.vector(), removedRows));
+            }
+            rosterChanged();
             System.out.printf(Constants.MSG_MEMBER_REMOVED, memberId);
             System.out.println();
         } else {
@@ -87,7 +180,137 @@ public class MemberManager {
     }
     
     /**
-     * Finds members by partial name match (case-insensitive).
+     * Looks up many members by ID in a single pass, without per-ID logging.
+     * 
+     * Small batches are probed against a hash index of the roster. Batches
+     * that are large relative to the roster are sorted and merged against the
+     * roster's sorted ID order instead, which touches each member at most once.
+     * Both indexes are built on first use and reused until the roster changes.
+     * Duplicate and null IDs in the input are ignored.
+     * 
+     * @param memberIds IDs to look up
+     * @return found members keyed by ID, missing IDs, and the strategy used
+     */
+    public BulkLookupResult findMembersByIds(Collection<String> memberIds) {
+        if ((long) memberIds.size() * Constants.SORT_MERGE_JOIN_RATIO >= members.size()) {
+            return sortMergeLookup(memberIds);
+        }
+        return hashProbeLookup(memberIds);
+    }
+    
+    /**
+     * Bulk lookup by probing each requested ID against the hash index.
+     * Results keep the input order.
+     * 
+     * @param memberIds IDs to look up
+     * @return lookup result using the hash probe strategy
+     */
+    private BulkLookupResult hashProbeLookup(Collection<String> memberIds) {
+        Map<String, Member> found = new LinkedHashMap<>();
+        Set<String> missing = new LinkedHashSet<>();
+        
+        for (String memberId : memberIds) {
+            if (memberId == null) {
+                continue;
+            }
+            Member member = indexedMember(memberId);
+            if (member != null) {
+                found.put(memberId, member);
+            } else {
+                missing.add(memberId);
+            }
+        }
+        return new BulkLookupResult(found, missing, BulkLookupResult.Strategy.HASH_PROBE);
+    }
+    
+    /**
+     * Bulk lookup by sorting the requested IDs and merging them against the
+     * roster in ID order. Results are in ID order.
+     * 
+     * @param memberIds IDs to look up
+     * @return lookup result using the sort-merge strategy
+     */
+    private BulkLookupResult sortMergeLookup(Collection<String> memberIds) {
+        String[] targets = memberIds.stream().filter(Objects::nonNull).toArray(String[]::new);
+        Arrays.sort(targets);
+        Member[] sorted = getIdSortedMembers();
+        Map<String, Member> found = new LinkedHashMap<>();
+        Set<String> missing = new LinkedHashSet<>();
+        
+        int j = 0;
+        for (int i = 0; i < targets.length; i++) {
+            String target = targets[i];
+            if (i > 0 && target.equals(targets[i - 1])) {
+                continue; // Skip duplicate requested IDs
+            }
+            while (j < sorted.length && sorted[j].getMemberId().compareTo(target) < 0) {
+                j++;
+            }
+            if (j < sorted.length && sorted[j].getMemberId().equals(target)) {
+                found.put(target, sorted[j]);
+            } else {
+                missing.add(target);
+            }
+        }
+        return new BulkLookupResult(found, missing, BulkLookupResult.Strategy.SORT_MERGE);
+    }
+    
+    /**
+     * Looks up a member in the ID index, building the index if stale.
+     * The first member with a given ID wins, matching findMemberById.
+     * 
+     * IDs are keyed by their MemberIdCodec code in a primitive long map, so
+     * the index holds no boxed keys or entry nodes; the few IDs that do not
+     * follow the prefix-plus-digits scheme go into an ordinary HashMap.
+     * 
+     * @param memberId ID to look up
+     * @return first member with that ID, or null if none
+     */
+    private Member indexedMember(String memberId) {
+        if (idIndex == null) {
+            idIndex = new LongObjectHashMap<>(members.size());
+            unencodableIdIndex = new HashMap<>();
+            for (Member member : members) {
+                long code = MemberIdCodec.encode(member.getMemberId());
+                if (code != MemberIdCodec.NOT_ENCODABLE) {
+                    idIndex.putIfAbsent(code, member);
+                } else {
+                    unencodableIdIndex.putIfAbsent(member.getMemberId(), member);
+                }
+            }
+        }
+        long code = MemberIdCodec.encode(memberId);
+        return code != MemberIdCodec.NOT_ENCODABLE ? idIndex.get(code) : unencodableIdIndex.get(memberId);
+    }
+    
+    /**
+     * Returns the members in ID order, building the array if stale.
+     * The sort is stable, so the first member with a given ID comes first.
+     * 
+     * @return array of members sorted by member ID
+     */
+    private Member[] getIdSortedMembers() {
+        if (idSortedMembers == null) {
+            idSortedMembers = members.toArray(new Member[0]);
+            Arrays.sort(idSortedMembers, Comparator.comparing(Member::getMemberId));
+        }
+        return idSortedMembers;
+    }
+    
+    /**
+     * Records a structural change to the roster: bumps the modification
+     * count (so outstanding sorted views become stale) and discards the
+     * cached ID indexes.
+     */
+    private void rosterChanged() {
+        modificationCount++;
+        idIndex = null;
+        unencodableIdIndex = null;
+        idSortedMembers = null;
+    }
+    
+    /**
+     * Finds members by partial name match (case- and accent-insensitive).
      * 
      * @param name partial name to search for
      * @return list of members matching the search criteria
@@ -95,12 +318,20 @@ public class MemberManager {
     public List<Member> findMembersByName(String name) {
         System.out.printf(Constants.MSG_FINDING_BY_NAME, name);
         System.out.println();
-        String searchName = name.toLowerCase();
         return members.stream()
-                .filter(m -> m.getFullName().toLowerCase().contains(searchName))
+                .filter(nameFilter(name))
                 .collect(Collectors.toList());
     }
     
+    /**
+     * @param name partial name to search for
+     * @return condition matching members whose name contains it, ignoring case and accents
+     */
+    private static Predicate<Member> nameFilter(String name) {
+        String searchName = Member.toSearchKey(name);
+        return m -> m.getNameSearchKey().contains(searchName);
+    }
+    
     /**
      * Finds members with performance rating above specified threshold.
      * Results are sorted by performance rating (highest first).
@@ -109,10 +340,14 @@ public class MemberManager {
      * @return list of members meeting performance criteria, sorted by rating
      */
     public List<Member> findMembersByPerformance(int minRating) {
-        return members.stream()
-                .filter(m -> m.getPerformanceRating() >= minRating)
-                .sorted((m1, m2) -> Integer.compare(m2.getPerformanceRating(), m1.getPerformanceRating()))
-                .collect(Collectors.toList());
+        // Filter on the dense rating column, then order matches by rating with a stable counting sort
+        int[] rows = getColumnStore().rowsWithRating(minRating, Constants.MAX_PERFORMANCE_RATING);
+        List<Member> matches = new ArrayList<>(rows.length);
+        for (int row : rows) {
+            matches.add(members.get(row));
+        }
+        return SortingAlgorithms.countingSort(matches, Member::getPerformanceRating,
+                Constants.MIN_PERFORMANCE_RATING, Constants.MAX_PERFORMANCE_RATING, false);
     }
     
     /**
@@ -132,19 +367,22 @@ public class MemberManager {
             return false;
         }
         
-        // Update fields based on provided map
-        if (updates.containsKey(Constants.UPDATE_KEY_EMAIL)) {
-            member.setEmail((String) updates.get(Constants.UPDATE_KEY_EMAIL));
-        }
-        if (updates.containsKey(Constants.UPDATE_KEY_PHONE)) {
-            member.setPhone((String) updates.get(Constants.UPDATE_KEY_PHONE));
-        }
-        if (updates.containsKey(Constants.UPDATE_KEY_PERFORMANCE_RATING)) {
-            member.setPerformanceRating((Integer) updates.get(Constants.UPDATE_KEY_PERFORMANCE_RATING));
-        }
-        if (updates.containsKey(Constants.UPDATE_KEY_GOAL_ACHIEVED)) {
-            member.setGoalAchieved((Boolean) updates.get(Constants.UPDATE_KEY_GOAL_ACHIEVED));
-        }
+        // Apply every field as one change, so views, columns and snapshots are updated once
+        member.change(() -> {
+            // Update fields based on provided map
+            if (updates.containsKey(Constants.UPDATE_KEY_EMAIL)) {
+                member.setEmail((String) updates.get(Constants.UPDATE_KEY_EMAIL));
+            }
+            if (updates.containsKey(Constants.UPDATE_KEY_PHONE)) {
+                member.setPhone((String) updates.get(Constants.UPDATE_KEY_PHONE));
+            }
+            if (updates.containsKey(Constants.UPDATE_KEY_PERFORMANCE_RATING)) {
+                member.setPerformanceRating((Integer) updates.get(Constants.UPDATE_KEY_PERFORMANCE_RATING));
+            }
+            if (updates.containsKey(Constants.UPDATE_KEY_GOAL_ACHIEVED)) {
+                member.setGoalAchieved((Boolean) updates.get(Constants.UPDATE_KEY_GOAL_ACHIEVED));
+            }
+        });
 
         System.out.printf(Constants.MSG_MEMBER_UPDATED, member.getFullName(), member.getMemberId());
         System.out.println();
@@ -163,7 +401,14 @@ public class MemberManager {
      */
     public void loadFromFile(String fileName) throws IOException {
         // clear the members list
+        for (Member member : members) {
+            member.removeObserver(rosterObserver);
+        }
         members.clear();
+        maintainedViews.clear();
+        columnStore = null;
+        rowIndex = null;
+        rosterChanged();
         currentFileName = fileName;
         
         try (BufferedReader reader = new BufferedReader(new FileReader(fileName))) {
@@ -171,43 +416,12 @@ public class MemberManager {
             reader.readLine(); // skip header
             
             while ((line = reader.readLine()) != null) {
-                String[] parts = line.split(Constants.CSV_DELIMITER);
-                // each line has 7 required fields (type, id, first name, last name, email, phone, performance rating, goal achieved)
-                // extra fields are for premium members (trainer name and sessions per month) and student members (student ID and university)
-                if (parts.length >= Constants.MIN_CSV_FIELDS_REQUIRED) {
-                    String type = parts[0];
-                    String id = parts[1];
-                    String firstName = parts[2];
-                    String lastName = parts[3];
-                    String email = parts[4];
-                    String phone = parts[5];
-                    int performanceRating = Integer.parseInt(parts[6]);
-                    boolean goalAchieved = Boolean.parseBoolean(parts[7]);
-                    
-                    Member member = null;
-                    
-                    // POLYMORPHISM: Creating different subclass objects but treating them as Member type
-                    switch (type) {
-                        case Constants.MEMBER_TYPE_REGULAR:
-                            member = new RegularMember(id, firstName, lastName, email, phone);
-                            break;
-                        case Constants.MEMBER_TYPE_PREMIUM:
-                            String trainer = parts.length > 8 ? parts[8] : Constants.DEFAULT_TRAINER_NAME;
-                            int sessions = parts.length > 9 ? Integer.parseInt(parts[9]) : Constants.DEFAULT_SESSIONS_PER_MONTH;
-                            member = new PremiumMember(id, firstName, lastName, email, phone, trainer, sessions);
-                            break;
-                        case Constants.MEMBER_TYPE_STUDENT:
-                            String studentId = parts.length > 8 ? parts[8] : Constants.DEFAULT_STUDENT_ID;
-                            String university = parts.length > 9 ? parts[9] : Constants.DEFAULT_UNIVERSITY;
-                            member = new StudentMember(id, firstName, lastName, email, phone, studentId, university);
-                            break;
-                    }
-                    
-                    if (member != null) {
-                        member.setPerformanceRating(performanceRating);
-                        member.setGoalAchieved(goalAchieved);
-                        members.add(member);
-                    }
+                Member member = parseMember(line);
+                if (member != null) {
+                    member.setFeeSchedule(feeSchedule);
+                    member.addObserver(rosterObserver);
+                    members.add(member);
+                    maintainedViews.memberAdded(member);
                 }
             }
             System.out.printf(Constants.MSG_MEMBERS_LOADED, members.size(), fileName);
@@ -217,10 +431,13 @@ public class MemberManager {
             System.out.println();
             e.printStackTrace();
         }
+        refreshRosterSnapshot();
     }
     
     /**
      * Saves all current members to CSV file.
+     * Writes one roster snapshot, so updates made while saving do not
+     * produce a file that mixes old and new values.
      * 
      * @param fileName path where to save the CSV file
      * @throws IOException if file cannot be written
@@ -229,31 +446,102 @@ public class MemberManager {
         try (PrintWriter writer = new PrintWriter(new FileWriter(fileName))) {
             writer.println(Constants.CSV_HEADER);
             
-            for (Member member : members) { // POLYMORPHISM: Iterate through different member types using common interface
-                writer.print(member.getMemberType().split(" ")[0] + Constants.CSV_DELIMITER); // POLYMORPHISM: Calls subclass implementation
-                writer.print(member.getMemberId() + Constants.CSV_DELIMITER);
-                writer.print(member.getFirstName() + Constants.CSV_DELIMITER);
-                writer.print(member.getLastName() + Constants.CSV_DELIMITER);
-                writer.print(member.getEmail() + Constants.CSV_DELIMITER);
-                writer.print(member.getPhone() + Constants.CSV_DELIMITER);
-                writer.print(member.getPerformanceRating() + Constants.CSV_DELIMITER);
-                writer.print(member.isGoalAchieved());
-                
-                // POLYMORPHISM: Runtime type checking and casting to access subclass-specific features
-                if (member instanceof PremiumMember) {
-                    PremiumMember pm = (PremiumMember) member;
-                    writer.print(Constants.CSV_DELIMITER + pm.getTrainerName() + Constants.CSV_DELIMITER + pm.getSessionsPerMonth());
-                } else if (member instanceof StudentMember) {
-                    StudentMember sm = (StudentMember) member;
-                    writer.print(Constants.CSV_DELIMITER + sm.getStudentId() + Constants.CSV_DELIMITER + sm.getUniversity());
-                }
-                writer.println();
+            RosterSnapshot snapshot = getRosterSnapshot();
+            for (MemberSnapshot member : snapshot) {
+                writer.println(formatMember(member));
             }
-            System.out.printf(Constants.MSG_MEMBERS_SAVED, members.size(), fileName);
+            System.out.printf(Constants.MSG_MEMBERS_SAVED, snapshot.size(), fileName);
             System.out.println();
         }
     }
     
+    /**
+     * Parses one CSV data line into a member.
+     * 
+     * Expected CSV format: Type,ID,FirstName,LastName,Email,Phone,PerformanceRating,GoalAchieved,Extra1,Extra2
+     * 
+     * @param line CSV line (not the header)
+     * @return parsed member, or null if the line has too few fields or an unknown type
+     * @throws NumberFormatException if the rating or session count is not a number
+     */
+    static Member parseMember(String line) {
+        String[] parts = line.split(Constants.CSV_DELIMITER);
+        // each line has 7 required fields (type, id, first name, last name, email, phone, performance rating, goal achieved)
+        // extra fields are for premium members (trainer name and sessions per month) and student members (student ID and university)
+        if (parts.length < Constants.MIN_CSV_FIELDS_REQUIRED) {
+            return null;
+        }
+        String type = parts[0];
+        String id = parts[1];
+        String firstName = parts[2];
+        String lastName = parts[3];
+        String email = parts[4];
+        String phone = parts[5];
+        int performanceRating = Integer.parseInt(parts[6]);
+        boolean goalAchieved = Boolean.parseBoolean(parts[7]);
+        
+        Member member = null;
+        
+        MembershipType membershipType = MembershipType.forCsvName(type);
+        if (membershipType == null) {
+            return null;
+        }
+        
+        // POLYMORPHISM: Creating different subclass objects but treating them as Member type
+        switch (membershipType) {
+            case REGULAR:
+                member = new RegularMember(id, firstName, lastName, email, phone);
+                break;
+            case PREMIUM:
+                String trainer = parts.length > 8 ? parts[8] : Constants.DEFAULT_TRAINER_NAME;
+                int sessions = parts.length > 9 ? Integer.parseInt(parts[9]) : Constants.DEFAULT_SESSIONS_PER_MONTH;
+                member = new PremiumMember(id, firstName, lastName, email, phone, trainer, sessions);
+                break;
+            case STUDENT:
+                String studentId = parts.length > 8 ? parts[8] : Constants.DEFAULT_STUDENT_ID;
+                String university = parts.length > 9 ? parts[9] : Constants.DEFAULT_UNIVERSITY;
+                member = new StudentMember(id, firstName, lastName, email, phone, studentId, university);
+                break;
+        }
+        
+        if (member != null) {
+            member.setPerformanceRating(performanceRating);
+            member.setGoalAchieved(goalAchieved);
+        }
+        return member;
+    }
+    
+    /**
+     * Formats a member snapshot as one CSV data line, the inverse of parseMember.
+     * 
+     * @param member member to format
+     * @return CSV line without a line terminator
+     */
+    static String formatMember(MemberSnapshot member) {
+        StringBuilder line = new StringBuilder();
+        line.append(member.getType().getCsvName()).append(Constants.CSV_DELIMITER);
+        line.append(member.getMemberId()).append(Constants.CSV_DELIMITER);
+        line.append(member.getFirstName()).append(Constants.CSV_DELIMITER);
+        line.append(member.getLastName()).append(Constants.CSV_DELIMITER);
+        line.append(member.getEmail()).append(Constants.CSV_DELIMITER);
+        line.append(member.getPhone()).append(Constants.CSV_DELIMITER);
+        line.append(member.getPerformanceRating()).append(Constants.CSV_DELIMITER);
+        line.append(member.isGoalAchieved());
+        
+        // Switch on the type tag to add the type-specific fields
+        switch (member.getType()) {
+            case PREMIUM:
+                line.append(Constants.CSV_DELIMITER).append(member.getTrainerName()).append(Constants.CSV_DELIMITER).append(member.getSessionsPerMonth());
+                break;
+            case STUDENT:
+                line.append(Constants.CSV_DELIMITER).append(member.getStudentId()).append(Constants.CSV_DELIMITER).append(member.getUniversity());
+                break;
+            default:
+                break;
+        }
+        return line.toString();
+    }
+    
     /**
      * Generates appreciation letter for high-performing members.
      * Only generates letters for members with rating ≥ 8.
@@ -293,6 +581,390 @@ public class MemberManager {
         return new ArrayList<>(members);
     }
     
+    /**
+     * Returns a read-only view of the roster in sorted order without copying
+     * the member list. The view holds only an int[] permutation of positions
+     * in the backing store, so several orderings can be kept side by side.
+     * 
+     * The view is a snapshot of the ordering: adding, removing or loading
+     * members makes it stale, and reading a stale view throws
+     * ConcurrentModificationException. Request a new view after such changes.
+     * 
+     * @param sortBy criteria to sort by ("id", "name", "performance", "fee", "type", "joinDate")
+     * @param ascending whether to sort in ascending order
+     * @return sorted view over the current roster
+     * @throws IllegalArgumentException if sortBy is not a supported criteria
+     */
+    public SortedMemberView sortedView(String sortBy, boolean ascending) {
+        int[] order = SortingAlgorithms.sortOrder(members, sortBy, ascending);
+        return new SortedMemberView(this, order, modificationCount);
+    }
+    
+    /**
+     * Returns a live, read-only view of the roster in sorted order that is
+     * maintained incrementally rather than re-sorted on each call.
+     * 
+     * The first request for a criteria and direction builds the view in
+     * O(n log n); from then on adding, removing or updating a member
+     * repositions only that member, in O(log n). This includes changes
+     * made directly with a roster member's setters.
+     * 
+     * @param sortBy criteria to sort by ("id", "name", "performance", "fee", "type", "joinDate")
+     * @param ascending whether to sort in ascending order
+     * @return unmodifiable view that reflects later roster changes
+     * @throws IllegalArgumentException if sortBy is not a supported criteria
+     */
+    public Collection<Member> maintainedView(String sortBy, boolean ascending) {
+        return maintainedViews.view(sortBy, ascending, members);
+    }
+    
+    /**
+     * Returns the member at a backing-store position, for sorted views.
+     * 
+     * @param index position in the backing list
+     * @return member at that position
+     */
+    Member memberAt(int index) {
+        return members.get(index);
+    }
+    
+    /**
+     * @return number of structural changes made to the roster so far
+     */
+    int getModificationCount() {
+        return modificationCount;
+    }
+    
+    // ========== PAGINATED QUERY METHODS ==========
+    
+    /**
+     * Returns one page of all members without copying the whole roster.
+     * 
+     * @param cursor cursor from a previous page, or null for the first page
+     * @param pageSize maximum number of members on the page (must be positive)
+     * @return page of members with a cursor for the next page
+     */
+    public MemberPage getMembersPage(String cursor, int pageSize) {
+        return queryMembersPage(member -> true, cursor, pageSize);
+    }
+    
+    /**
+     * Returns one page of the members matching a partial name, with the same
+     * matching as findMembersByName, without collecting every match first.
+     * 
+     * @param name partial name to search for
+     * @param cursor cursor from a previous page of the same search, or null for the first page
+     * @param pageSize maximum number of members on the page (must be positive)
+     * @return page of matching members with a cursor for the next page
+     */
+    public MemberPage findMembersByNamePage(String name, String cursor, int pageSize) {
+        return queryMembersPage(nameFilter(name), cursor, pageSize);
+    }
+    
+    /**
+     * Returns one page of members matching a filter, in backing-store order.
+     * Scanning stops as soon as the page is full and the start of the next
+     * page has been located, so early pages of large rosters are cheap.
+     * 
+     * The cursor remembers the position and ID of the last member scanned
+     * for this page, and the next page starts right after that member, so
+     * pages stay consistent when members are added or removed between calls.
+     * 
+     * @param filter condition members must satisfy to be included
+     * @param cursor cursor from a previous page, or null for the first page
+     * @param pageSize maximum number of members on the page (must be positive)
+     * @return page of matching members with a cursor for the next page
+     * @throws IllegalArgumentException if pageSize is not positive or the cursor is invalid
+     */
+    public MemberPage queryMembersPage(Predicate<Member> filter, String cursor, int pageSize) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("Page size must be positive: " + pageSize);
+        }
+        
+        int index = resolveCursor(cursor);
+        List<Member> page = new ArrayList<>(Math.min(pageSize, members.size()));
+        
+        while (index < members.size() && page.size() < pageSize) {
+            Member member = members.get(index++);
+            if (filter.test(member)) {
+                page.add(member);
+            }
+        }
+        
+        // Look ahead for the first member of the next page so the last page has no cursor
+        while (index < members.size() && !filter.test(members.get(index))) {
+            index++;
+        }
+        
+        // Anchor on the last member already scanned, which the next page must not repeat
+        String nextCursor = index < members.size() ? encodeCursor(index - 1, members.get(index - 1).getMemberId()) : null;
+        return new MemberPage(page, nextCursor);
+    }
+    
+    /**
+     * Encodes the position and ID of the last scanned member into an opaque cursor.
+     * 
+     * @param index position of the anchor member in the backing list
+     * @param memberId ID of the anchor member
+     * @return URL-safe cursor string
+     */
+    private static String encodeCursor(int index, String memberId) {
+        String raw = index + ":" + memberId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    /**
+     * Resolves a cursor back to a scan position in the backing list: the
+     * position after the anchor member. If the anchor moved, it is located
+     * through the ID and row indexes. If it was removed, the members after
+     * it shifted down by one, so scanning resumes at the anchor's old position.
+     * 
+     * @param cursor cursor to resolve, or null for the start of the list
+     * @return index where the next page starts
+     * @throws IllegalArgumentException if the cursor cannot be decoded
+     */
+    private int resolveCursor(String cursor) {
+        if (cursor == null) {
+            return 0;
+        }
+        
+        int index;
+        String anchorId;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(':');
+            index = Integer.parseInt(raw.substring(0, separator));
+            anchorId = raw.substring(separator + 1);
+            if (index < 0) {
+                throw new IllegalArgumentException("Negative cursor position");
+            }
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Invalid page cursor: " + cursor);
+        }
+        
+        if (index < members.size() && members.get(index).getMemberId().equals(anchorId)) {
+            return index + 1;
+        }
+        Member anchor = indexedMember(anchorId);
+        if (anchor != null) {
+            return rowOf(anchor) + 1;
+        }
+        return Math.min(index, members.size());
+    }
+    
+    /**
+     * Returns the columnar copy of the roster, building it on first use.
+     * Row i holds the member at position i of getAllMembers(). The store
+     * follows changes made through addMember, removeMember, updateMember
+     * and loadFromFile, and through the setters of roster members.
+     * 
+     * @return read-only columnar store of the current roster
+     */
+    public MemberColumnStore getColumnStore() {
+        if (columnStore == null) {
+            columnStore = MemberColumnStore.from(members, feeSchedule);
+        }
+        return columnStore;
+    }
+    
+    /**
+     * Returns the current version of the roster as an immutable snapshot.
+     * 
+     * Taking a snapshot is O(1): the manager keeps the latest version ready
+     * and replaces it on every add, update, removal, load and fee schedule
+     * change, including changes made with a roster member's setters. An update copies only the path to the
+     * changed member (O(log n)), and every version shares the rest of its
+     * structure with the previous one, so readers such as reports, exports
+     * and the GUI can hold a version for as long as they like without
+     * copying the roster or blocking writers.
+     * 
+     * The first call builds the snapshot from the roster in O(n) and must
+     * be made on the thread that changes the roster; later calls may come
+     * from any thread.
+     * 
+     * @return immutable roster version
+     */
+    public RosterSnapshot getRosterSnapshot() {
+        RosterSnapshot snapshot = rosterSnapshot;
+        if (snapshot == null) {
+            snapshot = publishRoster(PersistentVector.of(snapshotsOf(members)));
+        }
+        return snapshot;
+    }
+    
+    /**
+     * Calculates the total monthly fees of all members from the columnar store.
+     * 
+     * @return sum of every member's monthly fee
+     */
+    public double calculateTotalMonthlyFees() {
+        return getColumnStore().totalMonthlyFees();
+    }
+    
+    /**
+     * Loads a fee schedule file and prices every member with it.
+     * 
+     * @param fileName properties file of fee rules (see FeeSchedule.load)
+     * @throws IOException if the file cannot be read
+     * @throws IllegalArgumentException if the file has an unknown rule or invalid value
+     */
+    public void loadFeeSchedule(String fileName) throws IOException {
+        applyFeeSchedule(FeeSchedule.load(fileName));
+        System.out.printf(Constants.MSG_FEE_SCHEDULE_LOADED, fileName);
+        System.out.println();
+    }
+    
+    /**
+     * Returns the fee schedule this roster is priced with.
+     * 
+     * @return current fee schedule (FeeSchedule.DEFAULT until one is applied)
+     */
+    public FeeSchedule getFeeSchedule() {
+        return feeSchedule;
+    }
+    
+    /**
+     * Makes a fee schedule the one every member of this roster is priced
+     * with. Members on the standard base fee of their type move to the new
+     * schedule's base fee; members given a custom base fee keep it. Other
+     * managers keep their own schedules.
+     * 
+     * @param schedule schedule to apply
+     * @throws IllegalArgumentException if schedule is null
+     */
+    public void applyFeeSchedule(FeeSchedule schedule) {
+        if (schedule == null) {
+            throw new IllegalArgumentException("Fee schedule cannot be null");
+        }
+        feeSchedule = schedule;
+        bulkChange = true; // Everything derived is rebuilt below rather than per member
+        try {
+            for (Member member : members) {
+                member.setFeeSchedule(schedule);
+            }
+        } finally {
+            bulkChange = false;
+        }
+        // Every fee may have changed, so fee-ordered views and columns are rebuilt
+        maintainedViews.reorderAll();
+        columnStore = null;
+        RosterSnapshot snapshot = rosterSnapshot;
+        if (snapshot != null) {
+            // Only members whose fees moved get a new snapshot; the rest are shared with the previous version
+            PersistentVector<MemberSnapshot> vector = snapshot.vector();
+            for (int row = 0; row < members.size(); row++) {
+                Member member = members.get(row);
+                MemberSnapshot previous = vector.get(row);
+                if (previous.getMonthlyFee() != member.calculateMonthlyFee()
+                        || previous.getBaseFee() != member.getBaseFee()) {
+                    vector = vector.set(row, MemberSnapshot.of(member));
+                }
+            }
+            publishRoster(vector);
+        }
+        rosterChanged();
+    }
+    
+    /**
+     * Simulates the revenue impact of a fee schedule without changing any
+     * member or the roster's schedule.
+     * 
+     * @param scenario alternative schedule, e.g. getFeeSchedule().with(Rule.SESSION_COST, 30)
+     * @return revenue under the current and scenario schedules, per type and in total
+     */
+    public PricingImpact simulatePricing(FeeSchedule scenario) {
+        return simulatePricing(Collections.singletonList(scenario)).get(0);
+    }
+    
+    /**
+     * Simulates several fee schedules in one pass over the roster, e.g. a
+     * grid of price points. Nothing is changed.
+     * 
+     * @param scenarios alternative schedules
+     * @return one impact per scenario, in the same order
+     */
+    public List<PricingImpact> simulatePricing(List<FeeSchedule> scenarios) {
+        return new PricingSimulator(getColumnStore(), feeSchedule).simulate(scenarios);
+    }
+    
+    /**
+     * Returns how many monthly fees of this roster's members have been
+     * computed rather than served from a member's fee cache. Comparing the
+     * count before and after a screen or report shows how much fee
+     * arithmetic it actually triggered. Members of other managers are not
+     * counted.
+     * 
+     * @return number of fee recomputations so far
+     */
+    public long getFeeRecomputationCount() {
+        return feeRecomputations.sum();
+    }
+    
+    /**
+     * Publishes a new roster version.
+     * 
+     * @param snapshots member snapshots of the new version, in roster order
+     * @return the published version
+     */
+    private RosterSnapshot publishRoster(PersistentVector<MemberSnapshot> snapshots) {
+        RosterSnapshot snapshot = new RosterSnapshot(snapshots, ++rosterVersion);
+        rosterSnapshot = snapshot;
+        return snapshot;
+    }
+    
+    /**
+     * Publishes a version rebuilt from the whole roster after a new roster
+     * was loaded, if snapshots are in use.
+     */
+    private void refreshRosterSnapshot() {
+        if (rosterSnapshot != null) {
+            publishRoster(PersistentVector.of(snapshotsOf(members)));
+        }
+    }
+    
+    /**
+     * Returns a version of the roster without some of its rows. The
+     * remaining rows keep their MemberSnapshot objects.
+     * 
+     * @param snapshots current roster version
+     * @param removedRows flags of the rows to leave out, by position in snapshots
+     * @return remaining snapshots, in roster order
+     */
+    private static PersistentVector<MemberSnapshot> withoutRows(PersistentVector<MemberSnapshot> snapshots,
+                                                                boolean[] removedRows) {
+        List<MemberSnapshot> kept = new ArrayList<>(snapshots.size());
+        for (int row = 0; row < snapshots.size(); row++) {
+            if (!removedRows[row]) {
+                kept.add(snapshots.get(row));
+            }
+        }
+        return PersistentVector.of(kept);
+    }
+    
+    /**
+     * @return snapshot of each member, in roster order
+     */
+    private static List<MemberSnapshot> snapshotsOf(List<Member> roster) {
+        List<MemberSnapshot> snapshots = new ArrayList<>(roster.size());
+        for (Member member : roster) {
+            snapshots.add(MemberSnapshot.of(member));
+        }
+        return snapshots;
+    }
+    
+    /**
+     * Returns the roster position of a member object.
+     * 
+     * @param member member to locate (compared by identity)
+     * @return position in the roster, or -1 if absent
+     */
+    private int rowOf(Member member) {
+        if (rowIndex == null) {
+            rowIndex = new MemberRowIndex(members);
+        }
+        return rowIndex.rowOf(member);
+    }
+    
     /**
      * Displays comprehensive statistics about all members.
      * Includes counts by type, average performance, and goal achievement rates.
@@ -303,18 +975,16 @@ public class MemberManager {
             return;
         }
         
-        // Calculate statistics using streams
-        // POLYMORPHISM: Runtime type checking to categorize different member types
-        long regularCount = members.stream().filter(m -> m instanceof RegularMember).count();
-        long premiumCount = members.stream().filter(m -> m instanceof PremiumMember).count();
-        long studentCount = members.stream().filter(m -> m instanceof StudentMember).count();
+        // Calculate statistics with sequential scans over the dense columns
+        MemberColumnStore store = getColumnStore();
+        int[] typeCounts = store.countByType();
+        long regularCount = typeCounts[MembershipType.REGULAR.getCode()];
+        long premiumCount = typeCounts[MembershipType.PREMIUM.getCode()];
+        long studentCount = typeCounts[MembershipType.STUDENT.getCode()];
         
-        double avgPerformance = members.stream()
-                .mapToInt(Member::getPerformanceRating)
-                .average()
-                .orElse(0);
+        double avgPerformance = store.averageRating();
         
-        long goalAchievers = members.stream().filter(Member::isGoalAchieved).count();
+        long goalAchievers = store.countGoalAchievers();
         
         // Display formatted statistics
         System.out.println(Constants.STATS_TITLE);
@@ -460,6 +1130,16 @@ public class MemberManager {
         return SortingAlgorithms.mergeSortByFee(members);
     }
     
+    /**
+     * Sorts members by monthly fee using parallel Fork/Join merge sort.
+     * Each fee is calculated once, and the sort scales with available cores.
+     * 
+     * @return New list of members sorted by monthly fee
+     */
+    public List<Member> parallelMergeSortByFee() {
+        return SortingAlgorithms.parallelMergeSortByFee(members);
+    }
+    
     /**
      * Sorts members by type using quick sort algorithm.
      * Demonstrates O(n log n) average case sorting algorithm.
@@ -481,10 +1161,10 @@ public class MemberManager {
     }
     
     /**
-     * Sorts members using custom criteria and Java's optimized TimSort.
-     * Demonstrates practical sorting with custom comparators.
+     * Sorts members using custom criteria, with the algorithm suited to
+     * each key (see SortingAlgorithms.customSort).
      * 
-     * @param sortBy Criteria to sort by ("id", "name", "performance", "fee", "type")
+     * @param sortBy Criteria to sort by ("id", "name", "performance", "fee", "type", "joinDate")
      * @param ascending Whether to sort in ascending order
      * @return New list of members sorted by specified criteria
      */
@@ -521,7 +1201,7 @@ public class MemberManager {
         System.out.println("- Selection Sort: O(n²) = " + (n*n) + " operations in all cases");
         System.out.println("- Insertion Sort: O(n²) = " + (n*n) + " operations in worst case, O(n) = " + n + " in best case");
         System.out.println("- Merge Sort: O(n log n) = " + (int)(n * Math.log(n)/Math.log(2)) + " operations in all cases");
-        System.out.println("- Quick Sort: O(n log n) = " + (int)(n * Math.log(n)/Math.log(2)) + " operations average case");
+        System.out.println("- Quick Sort (introsort): O(n log n) = " + (int)(n * Math.log(n)/Math.log(2)) + " operations in worst case");
         System.out.println("- Heap Sort: O(n log n) = " + (int)(n * Math.log(n)/Math.log(2)) + " operations in all cases");
         System.out.println();
         
@@ -545,4 +1225,51 @@ public class MemberManager {
             System.out.println("- O(n²) algorithms will be very slow");
         }
     }
+    
+    /**
+     * Brings the derived copies of one member up to date when the member is
+     * changed, whether through updateMember or its own setters: the member
+     * leaves the sorted views while its keys change, and afterwards its
+     * column row and snapshot are rewritten and stale ID indexes dropped.
+     */
+    private final class RosterObserver implements MemberObserver {
+        /** ID of each member being changed, as it was before the change */
+        private final Map<Member, String> idsBeforeChange = new IdentityHashMap<>();
+        
+        @Override
+        public void beforeChange(Member member) {
+            if (bulkChange) {
+                return;
+            }
+            maintainedViews.detach(member);
+            idsBeforeChange.put(member, member.getMemberId());
+        }
+        
+        @Override
+        public void afterChange(Member member) {
+            if (bulkChange) {
+                return;
+            }
+            maintainedViews.attach(member);
+            if (!Objects.equals(idsBeforeChange.remove(member), member.getMemberId())) {
+                idIndex = null;
+                unencodableIdIndex = null;
+                idSortedMembers = null;
+            }
+            int row = rowOf(member);
+            if (columnStore != null) {
+                columnStore.set(row, member);
+            }
+            RosterSnapshot snapshot = rosterSnapshot;
+            if (snapshot != null) {
+                // Copy only the path to this member; readers keep the previous version
+                publishRoster(snapshot.vector().set(row, MemberSnapshot.of(member)));
+            }
+        }
+        
+        @Override
+        public void feeComputed(Member member) {
+            feeRecomputations.increment();
+        }
+    }
 }
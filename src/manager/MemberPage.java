@@ -0,0 +1,45 @@
+package manager;
+
+import java.util.Collections;
+import java.util.List;
+
+import models.Member;
+
+/**
+ * A single page of members returned by a paginated MemberManager query.
+ *
+ * Holds at most the requested page size of members together with an opaque
+ * cursor that callers pass back to fetch the following page. Callers should
+ * treat the cursor as a token and never try to parse it.
+ *
+ */
+public class MemberPage {
+    /** Members on this page, in backing-store order */
+    private final List<Member> members;
+
+    /** Cursor for the next page, or null when this is the last page */
+    private final String nextCursor;
+
+    /**
+     * Constructs a new page of query results.
+     *
+     * @param members members on this page
+     * @param nextCursor cursor for the following page, null if no more results
+     */
+    public MemberPage(List<Member> members, String nextCursor) {
+        this.members = Collections.unmodifiableList(members);
+        this.nextCursor = nextCursor;
+    }
+
+    /** @return read-only list of members on this page */
+    public List<Member> getMembers() { return members; }
+
+    /** @return opaque cursor for the next page, or null if this is the last page */
+    public String getNextCursor() { return nextCursor; }
+
+    /** @return true if another page can be fetched with the next cursor */
+    public boolean hasMore() { return nextCursor != null; }
+
+    /** @return number of members on this page */
+    public int size() { return members.size(); }
+}
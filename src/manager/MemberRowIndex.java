@@ -0,0 +1,75 @@
+package manager;
+
+import java.util.List;
+
+import models.Member;
+
+/**
+ * Index from member objects to their position in the roster.
+ *
+ * Rows are chained by identity hash code: an IntIntHashMap holds the latest
+ * row for each hash code, and an IntList holds, for every row, the previous
+ * row with the same hash code (or -1). Looking up a member walks its chain,
+ * comparing by identity, so distinct members with colliding hash codes are
+ * still told apart. Everything is stored in int arrays; no per-member
+ * objects are allocated.
+ *
+ * Appending a member keeps the index current. Removing a member shifts the
+ * rows after it, so the manager discards the index and rebuilds it on the
+ * next lookup.
+ *
+ */
+final class MemberRowIndex {
+    /** Marks the end of a chain, and absence from the index */
+    static final int NO_ROW = -1;
+
+    /** Members in row order, shared with the manager */
+    private final List<Member> roster;
+
+    /** Latest row of each identity hash code, the head of its chain */
+    private final IntIntHashMap headRow;
+
+    /** Previous row with the same identity hash code, for each row */
+    private final IntList previousRow;
+
+    /**
+     * Builds an index over the current roster.
+     *
+     * @param roster members in row order (not copied; later appends must be reported with appended)
+     */
+    MemberRowIndex(List<Member> roster) {
+        this.roster = roster;
+        int size = roster.size();
+        this.headRow = new IntIntHashMap(size);
+        this.previousRow = new IntList(Math.max(size, 16));
+        for (int row = 0; row < size; row++) {
+            appended(row);
+        }
+    }
+
+    /**
+     * Adds the member at the given row, which must be the roster's new last row.
+     *
+     * @param row row of the appended member
+     */
+    void appended(int row) {
+        int hash = System.identityHashCode(roster.get(row));
+        // The new row becomes the head of its chain
+        previousRow.add(headRow.get(hash, NO_ROW));
+        headRow.put(hash, row);
+    }
+
+    /**
+     * Returns the roster position of a member object.
+     *
+     * @param member member to locate (compared by identity)
+     * @return position in the roster, or NO_ROW if absent
+     */
+    int rowOf(Member member) {
+        int row = headRow.get(System.identityHashCode(member), NO_ROW);
+        while (row != NO_ROW && roster.get(row) != member) {
+            row = previousRow.get(row);
+        }
+        return row;
+    }
+}
@@ -0,0 +1,239 @@
+package manager;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Immutable indexed sequence that is changed by path copying.
+ *
+ * Elements sit in the leaves of a tree with 32 children per node, plus a
+ * tail array holding the last 1-32 elements. Reading an element walks at
+ * most log32(n) levels (4 levels cover a million elements). append and set
+ * return a new vector that copies only the nodes on the path to the
+ * changed element and shares every other node with the original, so both
+ * versions stay valid and unchanged. Appends usually copy only the tail.
+ *
+ * Instances are immutable and can be shared between threads freely.
+ *
+ * @param <E> type of the elements
+ */
+final class PersistentVector<E> {
+    /** Bits of the index consumed per tree level */
+    private static final int BITS = 5;
+
+    /** Children per node */
+    private static final int WIDTH = 1 << BITS;
+
+    /** Mask selecting one level's child index */
+    private static final int MASK = WIDTH - 1;
+
+    /** Vector with no elements */
+    private static final PersistentVector<Object> EMPTY = new PersistentVector<>(0, BITS, new Object[WIDTH], new Object[0]);
+
+    /** Number of elements */
+    private final int size;
+
+    /** Index bits consumed above the leaves: BITS for a root whose children are leaves */
+    private final int shift;
+
+    /** Root of the tree holding every element before the tail */
+    private final Object[] root;
+
+    /** Last 1-32 elements (empty only for the empty vector) */
+    private final Object[] tail;
+
+    private PersistentVector(int size, int shift, Object[] root, Object[] tail) {
+        this.size = size;
+        this.shift = shift;
+        this.root = root;
+        this.tail = tail;
+    }
+
+    /**
+     * @return vector with no elements
+     */
+    @SuppressWarnings("unchecked")
+    static <E> PersistentVector<E> empty() {
+        return (PersistentVector<E>) EMPTY;
+    }
+
+    /**
+     * Builds a vector holding the given elements, filling the leaves
+     * directly instead of appending one element at a time.
+     *
+     * @param elements elements in order
+     * @return new vector
+     */
+    static <E> PersistentVector<E> of(List<? extends E> elements) {
+        int size = elements.size();
+        if (size == 0) {
+            return empty();
+        }
+        int tailOffset = tailOffset(size);
+
+        Object[] nodes = new Object[tailOffset >>> BITS];
+        for (int leaf = 0; leaf < nodes.length; leaf++) {
+            Object[] node = new Object[WIDTH];
+            for (int i = 0; i < WIDTH; i++) {
+                node[i] = elements.get((leaf << BITS) + i);
+            }
+            nodes[leaf] = node;
+        }
+
+        // The root must be tall enough to address every element before the tail
+        int shift = BITS;
+        while (tailOffset > (1 << (shift + BITS))) {
+            shift += BITS;
+        }
+        for (int level = 0; level < shift; level += BITS) {
+            Object[] parents = new Object[(nodes.length + MASK) >>> BITS];
+            for (int p = 0; p < parents.length; p++) {
+                int from = p << BITS;
+                Object[] parent = new Object[WIDTH];
+                System.arraycopy(nodes, from, parent, 0, Math.min(WIDTH, nodes.length - from));
+                parents[p] = parent;
+            }
+            nodes = parents;
+        }
+        Object[] root = nodes.length == 0 ? new Object[WIDTH] : (Object[]) nodes[0];
+
+        Object[] tail = new Object[size - tailOffset];
+        for (int i = 0; i < tail.length; i++) {
+            tail[i] = elements.get(tailOffset + i);
+        }
+        return new PersistentVector<>(size, shift, root, tail);
+    }
+
+    /** @return number of elements */
+    int size() { return size; }
+
+    /**
+     * @param index position of the element
+     * @return element at that position
+     * @throws IndexOutOfBoundsException if index is not in the vector
+     */
+    @SuppressWarnings("unchecked")
+    E get(int index) {
+        return (E) leafFor(checkIndex(index))[index & MASK];
+    }
+
+    /**
+     * Returns a new vector with an element added at the end.
+     *
+     * @param element element to add
+     * @return new vector one element longer; this vector is unchanged
+     */
+    PersistentVector<E> append(E element) {
+        if (size - tailOffset(size) < WIDTH) {
+            Object[] newTail = Arrays.copyOf(tail, tail.length + 1);
+            newTail[tail.length] = element;
+            return new PersistentVector<>(size + 1, shift, root, newTail);
+        }
+
+        // The tail is full: move it into the tree and start a new tail
+        Object[] newRoot;
+        int newShift = shift;
+        if ((size >>> BITS) > (1 << shift)) {
+            // The tree is full at this height, so add a level above the root
+            newRoot = new Object[WIDTH];
+            newRoot[0] = root;
+            newRoot[1] = newPath(shift, tail);
+            newShift += BITS;
+        } else {
+            newRoot = pushTail(shift, root, tail);
+        }
+        return new PersistentVector<>(size + 1, newShift, newRoot, new Object[]{element});
+    }
+
+    /**
+     * Returns a new vector with one element replaced.
+     *
+     * @param index position of the element
+     * @param element new element
+     * @return new vector; this vector is unchanged
+     * @throws IndexOutOfBoundsException if index is not in the vector
+     */
+    PersistentVector<E> set(int index, E element) {
+        checkIndex(index);
+        if (index >= tailOffset(size)) {
+            Object[] newTail = tail.clone();
+            newTail[index & MASK] = element;
+            return new PersistentVector<>(size, shift, root, newTail);
+        }
+        return new PersistentVector<>(size, shift, assoc(shift, root, index, element), tail);
+    }
+
+    // ========== INTERNALS ==========
+
+    /**
+     * @return index of the first element held in the tail
+     */
+    private static int tailOffset(int size) {
+        return size < WIDTH ? 0 : ((size - 1) >>> BITS) << BITS;
+    }
+
+    /**
+     * @return array holding the element at index (a leaf or the tail)
+     */
+    private Object[] leafFor(int index) {
+        if (index >= tailOffset(size)) {
+            return tail;
+        }
+        Object[] node = root;
+        for (int level = shift; level > 0; level -= BITS) {
+            node = (Object[]) node[(index >>> level) & MASK];
+        }
+        return node;
+    }
+
+    /**
+     * @return copy of node with the full tail attached as the next leaf below it
+     */
+    private Object[] pushTail(int level, Object[] node, Object[] tailNode) {
+        int child = ((size - 1) >>> level) & MASK;
+        Object[] copy = node.clone();
+        if (level == BITS) {
+            copy[child] = tailNode;
+        } else {
+            Object[] below = (Object[]) node[child];
+            copy[child] = below != null ? pushTail(level - BITS, below, tailNode) : newPath(level - BITS, tailNode);
+        }
+        return copy;
+    }
+
+    /**
+     * @return chain of new nodes from the given level down to leaf
+     */
+    private static Object[] newPath(int level, Object[] leaf) {
+        if (level == 0) {
+            return leaf;
+        }
+        Object[] node = new Object[WIDTH];
+        node[0] = newPath(level - BITS, leaf);
+        return node;
+    }
+
+    /**
+     * @return copy of node with the element at index replaced, copying the path below it
+     */
+    private static Object[] assoc(int level, Object[] node, int index, Object element) {
+        Object[] copy = node.clone();
+        if (level == 0) {
+            copy[index & MASK] = element;
+        } else {
+            int child = (index >>> level) & MASK;
+            copy[child] = assoc(level - BITS, (Object[]) node[child], index, element);
+        }
+        return copy;
+    }
+
+    /**
+     * @return the index, if it is in the vector
+     */
+    private int checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return index;
+    }
+}
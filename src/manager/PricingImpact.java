@@ -0,0 +1,105 @@
+package manager;
+
+import models.FeeSchedule;
+import models.MembershipType;
+
+/**
+ * Revenue impact of one what-if fee schedule, produced by PricingSimulator.
+ *
+ * Holds the monthly revenue of each membership type under the schedule in
+ * effect (the baseline) and under the scenario schedule, so callers can read
+ * totals and deltas overall or per type.
+ *
+ */
+public class PricingImpact {
+    /** Schedule that was simulated */
+    private final FeeSchedule scenario;
+
+    /** Members of each type, indexed by Constants.TYPE_CODE_* */
+    private final int[] memberCounts;
+
+    /** Monthly revenue of each type under the baseline schedule */
+    private final double[] baselineRevenue;
+
+    /** Monthly revenue of each type under the scenario schedule */
+    private final double[] scenarioRevenue;
+
+    /**
+     * Constructs a new pricing impact.
+     *
+     * @param scenario schedule that was simulated
+     * @param memberCounts members of each type (not copied)
+     * @param baselineRevenue monthly revenue of each type under the baseline (not copied)
+     * @param scenarioRevenue monthly revenue of each type under the scenario (not copied)
+     */
+    PricingImpact(FeeSchedule scenario, int[] memberCounts, double[] baselineRevenue, double[] scenarioRevenue) {
+        this.scenario = scenario;
+        this.memberCounts = memberCounts;
+        this.baselineRevenue = baselineRevenue;
+        this.scenarioRevenue = scenarioRevenue;
+    }
+
+    /** @return schedule that was simulated */
+    public FeeSchedule getScenario() { return scenario; }
+
+    /** @return monthly revenue of all members under the baseline schedule */
+    public double getBaselineTotal() { return sum(baselineRevenue); }
+
+    /** @return monthly revenue of all members under the scenario schedule */
+    public double getScenarioTotal() { return sum(scenarioRevenue); }
+
+    /** @return change in total monthly revenue (scenario minus baseline) */
+    public double getTotalDelta() { return getScenarioTotal() - getBaselineTotal(); }
+
+    /**
+     * @param typeCode membership type (Constants.TYPE_CODE_*)
+     * @return number of members of that type
+     */
+    public int getMemberCount(int typeCode) { return memberCounts[typeCode]; }
+
+    /**
+     * @param typeCode membership type (Constants.TYPE_CODE_*)
+     * @return monthly revenue of that type under the baseline schedule
+     */
+    public double getBaselineRevenue(int typeCode) { return baselineRevenue[typeCode]; }
+
+    /**
+     * @param typeCode membership type (Constants.TYPE_CODE_*)
+     * @return monthly revenue of that type under the scenario schedule
+     */
+    public double getScenarioRevenue(int typeCode) { return scenarioRevenue[typeCode]; }
+
+    /**
+     * @param typeCode membership type (Constants.TYPE_CODE_*)
+     * @return change in that type's monthly revenue (scenario minus baseline)
+     */
+    public double getDelta(int typeCode) { return scenarioRevenue[typeCode] - baselineRevenue[typeCode]; }
+
+    /**
+     * @return table of baseline revenue, scenario revenue and delta per type and in total
+     */
+    @Override
+    public String toString() {
+        StringBuilder table = new StringBuilder();
+        table.append(String.format("%-10s %8s %14s %14s %14s%n", "Type", "Members", "Current", "Scenario", "Change"));
+        for (int type = 0; type < memberCounts.length; type++) {
+            String name = MembershipType.forCode(type).getCsvName();
+            table.append(String.format("%-10s %8d %14.2f %14.2f %+14.2f%n", name, memberCounts[type],
+                                       baselineRevenue[type], scenarioRevenue[type], getDelta(type)));
+        }
+        table.append(String.format("%-10s %8d %14.2f %14.2f %+14.2f", "Total", memberCounts[0] + memberCounts[1] + memberCounts[2],
+                                   getBaselineTotal(), getScenarioTotal(), getTotalDelta()));
+        return table.toString();
+    }
+
+    /**
+     * @return sum of the per-type values
+     */
+    private static double sum(double[] values) {
+        double total = 0;
+        for (double value : values) {
+            total += value;
+        }
+        return total;
+    }
+}
@@ -0,0 +1,127 @@
+package manager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import models.FeeSchedule;
+import constants.Constants;
+
+/**
+ * What-if pricing over the columnar roster.
+ *
+ * Prices every member under the baseline schedule and any number of
+ * scenario schedules in a single pass over the fee columns, without
+ * building or changing Member objects. Each row's columns are read once and
+ * fed to every schedule's compiled evaluator, so sweeping a grid of
+ * scenarios costs one scan. Large rosters are split into chunks summed in
+ * parallel; chunk sums are combined in chunk order so results do not depend
+ * on thread timing.
+ *
+ * A member on the standard base fee for its type (see
+ * Member.hasStandardBaseFee) is priced at the scenario's standard base fee,
+ * matching what applying the scenario with MemberManager.applyFeeSchedule
+ * would do; custom base fees are kept.
+ *
+ */
+class PricingSimulator {
+    /** Roster columns to price (must not change during a simulation) */
+    private final MemberColumnStore store;
+
+    /** Schedule the roster is currently priced with */
+    private final FeeSchedule baseline;
+
+    /**
+     * Constructs a simulator over a columnar roster.
+     *
+     * @param store roster columns
+     * @param baseline schedule in effect, the reference for deltas
+     */
+    PricingSimulator(MemberColumnStore store, FeeSchedule baseline) {
+        this.store = store;
+        this.baseline = baseline;
+    }
+
+    /**
+     * Computes the revenue impact of each scenario schedule.
+     *
+     * @param scenarios schedules to simulate
+     * @return one impact per scenario, in the same order
+     */
+    List<PricingImpact> simulate(List<FeeSchedule> scenarios) {
+        int size = store.size();
+        int types = Constants.MEMBER_TYPE_COUNT;
+
+        // Schedule 0 is the baseline; scenarios follow
+        FeeSchedule[] schedules = new FeeSchedule[scenarios.size() + 1];
+        schedules[0] = baseline;
+        for (int s = 0; s < scenarios.size(); s++) {
+            schedules[s + 1] = scenarios.get(s);
+        }
+        double[][] standardBase = new double[schedules.length][types];
+        for (int s = 0; s < schedules.length; s++) {
+            for (int type = 0; type < types; type++) {
+                standardBase[s][type] = schedules[s].baseFee(type);
+            }
+        }
+
+        int chunks = Math.max(1, (size + Constants.FEE_BATCH_CHUNK_SIZE - 1) / Constants.FEE_BATCH_CHUNK_SIZE);
+        double[][] chunkRevenue = new double[chunks][schedules.length * types];
+        int[][] chunkCounts = new int[chunks][types];
+        IntStream work = IntStream.range(0, chunks);
+        if (size >= Constants.FEE_BATCH_PARALLEL_THRESHOLD) {
+            work = work.parallel();
+        }
+        work.forEach(chunk -> {
+            int from = chunk * Constants.FEE_BATCH_CHUNK_SIZE;
+            int to = Math.min(size, from + Constants.FEE_BATCH_CHUNK_SIZE);
+            priceRows(schedules, standardBase, from, to, chunkRevenue[chunk], chunkCounts[chunk]);
+        });
+
+        double[] revenue = new double[schedules.length * types];
+        int[] counts = new int[types];
+        for (int chunk = 0; chunk < chunks; chunk++) {
+            for (int i = 0; i < revenue.length; i++) {
+                revenue[i] += chunkRevenue[chunk][i];
+            }
+            for (int type = 0; type < types; type++) {
+                counts[type] += chunkCounts[chunk][type];
+            }
+        }
+
+        double[] baselineRevenue = new double[types];
+        System.arraycopy(revenue, 0, baselineRevenue, 0, types);
+        List<PricingImpact> impacts = new ArrayList<>(scenarios.size());
+        for (int s = 1; s < schedules.length; s++) {
+            double[] scenarioRevenue = new double[types];
+            System.arraycopy(revenue, s * types, scenarioRevenue, 0, types);
+            impacts.add(new PricingImpact(schedules[s], counts.clone(), baselineRevenue.clone(), scenarioRevenue));
+        }
+        return impacts;
+    }
+
+    /**
+     * Adds the fees of rows [from, to) under every schedule into revenue
+     * (indexed schedule * type count + type) and counts rows per type.
+     */
+    private void priceRows(FeeSchedule[] schedules, double[][] standardBase, int from, int to,
+                           double[] revenue, int[] counts) {
+        byte[] typeColumn = store.typeColumn();
+        double[] baseFeeColumn = store.baseFeeColumn();
+        boolean[] standardColumn = store.standardBaseFeeColumn();
+        int[] sessionColumn = store.sessionColumn();
+        int[] ratingColumn = store.ratingColumn();
+        boolean[] goalColumn = store.goalColumn();
+        int types = Constants.MEMBER_TYPE_COUNT;
+        for (int row = from; row < to; row++) {
+            int type = typeColumn[row];
+            boolean standardRate = standardColumn[row];
+            counts[type]++;
+            for (int s = 0; s < schedules.length; s++) {
+                double rowBase = standardRate ? standardBase[s][type] : baseFeeColumn[row];
+                revenue[s * types + type] += schedules[s].monthlyFee(type, rowBase, sessionColumn[row],
+                                                                     ratingColumn[row], goalColumn[row]);
+            }
+        }
+    }
+}
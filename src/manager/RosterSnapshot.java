@@ -0,0 +1,52 @@
+package manager;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+import models.MemberSnapshot;
+
+/**
+ * One version of the roster, as returned by MemberManager.getRosterSnapshot().
+ *
+ * A read-only list of immutable member snapshots in roster order. Once
+ * obtained it never changes: later adds, updates and removals produce new
+ * versions that share most of their structure with this one, so holding a
+ * snapshot costs nothing extra and reading it needs no locking or copying.
+ * Reports and exports that read a single snapshot see every member as of
+ * the same moment.
+ *
+ */
+public final class RosterSnapshot extends AbstractList<MemberSnapshot> implements RandomAccess {
+    /** Member snapshots in roster order */
+    private final PersistentVector<MemberSnapshot> members;
+
+    /** Version number; each change to the roster produces a higher one */
+    private final long version;
+
+    /**
+     * Constructs a new roster snapshot.
+     *
+     * @param members member snapshots in roster order
+     * @param version version number of this roster
+     */
+    RosterSnapshot(PersistentVector<MemberSnapshot> members, long version) {
+        this.members = members;
+        this.version = version;
+    }
+
+    /** @return version number; later versions of the same manager's roster have higher numbers */
+    public long getVersion() { return version; }
+
+    @Override
+    public MemberSnapshot get(int index) {
+        return members.get(index);
+    }
+
+    @Override
+    public int size() {
+        return members.size();
+    }
+
+    /** @return member snapshots backing this version */
+    PersistentVector<MemberSnapshot> vector() { return members; }
+}
@@ -0,0 +1,74 @@
+package manager;
+
+import java.util.AbstractList;
+import java.util.ConcurrentModificationException;
+import java.util.RandomAccess;
+
+import models.Member;
+
+/**
+ * Read-only sorted view over the members held by a MemberManager.
+ *
+ * Instead of a reordered copy of the roster, the view stores an int[]
+ * permutation of positions in the manager's backing list and resolves
+ * each element on access. Building a view costs 4 bytes per member.
+ *
+ * A view is tied to the roster it was built from; once members are added,
+ * removed or reloaded every access throws ConcurrentModificationException.
+ *
+ */
+public class SortedMemberView extends AbstractList<Member> implements RandomAccess {
+    /** Manager whose backing list the permutation indexes into */
+    private final MemberManager manager;
+
+    /** Position i holds the backing-list index of the i-th member in sorted order */
+    private final int[] order;
+
+    /** Roster modification count the permutation was computed against */
+    private final int expectedModificationCount;
+
+    /**
+     * Constructs a new sorted view.
+     *
+     * @param manager manager that owns the backing list
+     * @param order permutation of backing-list positions in sorted order
+     * @param expectedModificationCount roster modification count when the order was computed
+     */
+    SortedMemberView(MemberManager manager, int[] order, int expectedModificationCount) {
+        this.manager = manager;
+        this.order = order;
+        this.expectedModificationCount = expectedModificationCount;
+    }
+
+    @Override
+    public Member get(int index) {
+        checkNotStale();
+        if (index < 0 || index >= order.length) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + order.length);
+        }
+        return manager.memberAt(order[index]);
+    }
+
+    @Override
+    public int size() {
+        checkNotStale();
+        return order.length;
+    }
+
+    /** @return copy of the backing-list positions in sorted order */
+    public int[] getOrder() { return order.clone(); }
+
+    /** @return true if the roster has changed since this view was built */
+    public boolean isStale() {
+        return manager.getModificationCount() != expectedModificationCount;
+    }
+
+    /**
+     * @throws ConcurrentModificationException if the roster has changed since this view was built
+     */
+    private void checkNotStale() {
+        if (isStale()) {
+            throw new ConcurrentModificationException("Roster changed since this sorted view was built");
+        }
+    }
+}
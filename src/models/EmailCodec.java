@@ -0,0 +1,70 @@
+package models;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Splits email addresses into UTF-8 local-part bytes and a shared domain code.
+ *
+ * The domain (the part after the last '@') is kept in
+ * FieldDictionary.EMAIL_DOMAINS, so members on the same domain do not each
+ * hold a copy of it, and the local part carries no String object overhead.
+ * Addresses without '@', or whose domain is new once EMAIL_DOMAINS is full,
+ * keep the whole address in the local part with domain code NO_DOMAIN.
+ *
+
+ */
+public final class EmailCodec {
+    /** Domain code of an address stored whole in its local part */
+    public static final int NO_DOMAIN = FieldDictionary.NOT_CODED;
+
+    /**
+     * Private constructor to prevent instantiation of utility class.
+     *
+     * @throws AssertionError if instantiation is attempted
+     */
+    private EmailCodec() {
+        throw new AssertionError("EmailCodec class should not be instantiated");
+    }
+
+    /**
+     * Returns the domain code of an address, registering its domain if new.
+     *
+     * @param email address to encode (may be null)
+     * @return FieldDictionary.EMAIL_DOMAINS code, or NO_DOMAIN
+     */
+    public static int domainCode(String email) {
+        int at = email == null ? -1 : email.lastIndexOf('@');
+        return at < 0 ? NO_DOMAIN : FieldDictionary.EMAIL_DOMAINS.code(email.substring(at + 1));
+    }
+
+    /**
+     * Returns the bytes stored alongside a domain code.
+     *
+     * @param email address to encode (may be null)
+     * @param domainCode code returned by domainCode(email)
+     * @return UTF-8 bytes of the part before the last '@' (the whole address
+     *         for NO_DOMAIN), or null if email is null
+     */
+    public static byte[] localPart(String email, int domainCode) {
+        if (email == null) {
+            return null;
+        }
+        String localPart = domainCode == NO_DOMAIN ? email : email.substring(0, email.lastIndexOf('@'));
+        return localPart.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Rebuilds an address from its parts.
+     *
+     * @param localPart bytes from localPart() (may be null)
+     * @param domainCode code from domainCode()
+     * @return the original address, or null if localPart is null
+     */
+    public static String decode(byte[] localPart, int domainCode) {
+        if (localPart == null) {
+            return null;
+        }
+        String text = new String(localPart, StandardCharsets.UTF_8);
+        return domainCode == NO_DOMAIN ? text : text + "@" + FieldDictionary.EMAIL_DOMAINS.value(domainCode);
+    }
+}
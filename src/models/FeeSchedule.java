@@ -0,0 +1,349 @@
+package models;
+
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Properties;
+import java.util.stream.IntStream;
+
+import constants.Constants;
+
+/**
+ * Table of pricing rules used to calculate monthly fees.
+ *
+ * Every price, discount rate, threshold and minimum that used to be a
+ * compile-time constant is one Rule in this table, so finance can change
+ * prices by editing a properties file (see load) instead of rebuilding.
+ * There is no global schedule in effect: each MemberManager holds the
+ * schedule its roster is priced with and gives it to its members, and a
+ * member on its own is priced with DEFAULT.
+ *
+ * On construction the rules are also compiled into one row of coefficients
+ * per membership type. Every type's fee is then the same formula:
+ *
+ *   fee = baseFee * baseMultiplier + sessions * sessionCost
+ *   if goal achieved:            fee = fee * goalMultiplier - goalDeduction
+ *   if rating >= bonusRating:    fee -= bonus
+ *   if rating <  penaltyRating:  fee += penalty
+ *   fee = max(fee, minimumFee)
+ *
+ * with coefficients that switch off the steps a type does not have. This
+ * lets monthlyFees price a whole columnar batch in one branch-light loop
+ * over primitive arrays, in parallel for large batches, and
+ * Member.calculateMonthlyFee prices a single member with the same formula
+ * through monthlyFee, so both produce exactly the same values.
+ *
+ * Schedules are immutable; with() returns a modified copy.
+ *
+
+ */
+public final class FeeSchedule {
+    /**
+     * Pricing rules, with their property file keys and built-in defaults.
+     */
+    public enum Rule {
+        REGULAR_BASE_FEE("regular.baseFee", Kind.AMOUNT, Constants.REGULAR_BASE_FEE),
+        REGULAR_GOAL_DISCOUNT("regular.goalDiscount", Kind.RATE, Constants.REGULAR_GOAL_ACHIEVEMENT_DISCOUNT),
+        LOW_PERFORMANCE_PENALTY("regular.lowPerformancePenalty", Kind.AMOUNT, Constants.LOW_PERFORMANCE_PENALTY),
+        PENALTY_PERFORMANCE_THRESHOLD("regular.penaltyBelowRating", Kind.RATING, Constants.PENALTY_PERFORMANCE_THRESHOLD),
+        PREMIUM_BASE_FEE("premium.baseFee", Kind.AMOUNT, Constants.PREMIUM_BASE_FEE),
+        SESSION_COST("premium.sessionCost", Kind.AMOUNT, Constants.SESSION_COST),
+        PREMIUM_GOAL_DISCOUNT("premium.goalDiscount", Kind.RATE, Constants.PREMIUM_GOAL_ACHIEVEMENT_DISCOUNT),
+        HIGH_PERFORMANCE_BONUS("premium.highPerformanceBonus", Kind.AMOUNT, Constants.HIGH_PERFORMANCE_BONUS),
+        HIGH_PERFORMANCE_THRESHOLD("premium.bonusFromRating", Kind.RATING, Constants.HIGH_PERFORMANCE_THRESHOLD),
+        STUDENT_BASE_FEE("student.baseFee", Kind.AMOUNT, Constants.STUDENT_BASE_FEE),
+        STUDENT_BASE_DISCOUNT("student.baseDiscount", Kind.RATE, Constants.STUDENT_BASE_DISCOUNT),
+        STUDENT_GOAL_BONUS("student.goalBonus", Kind.AMOUNT, Constants.STUDENT_GOAL_ACHIEVEMENT_BONUS),
+        MINIMUM_STUDENT_FEE("student.minimumFee", Kind.AMOUNT, Constants.MINIMUM_STUDENT_FEE);
+
+        private final String key;
+        private final Kind kind;
+        private final double defaultValue;
+
+        Rule(String key, Kind kind, double defaultValue) {
+            this.key = key;
+            this.kind = kind;
+            this.defaultValue = defaultValue;
+        }
+
+        /** @return key of this rule in a fee schedule file */
+        public String getKey() { return key; }
+
+        /** @return value of this rule in the built-in schedule */
+        public double getDefaultValue() { return defaultValue; }
+
+        /**
+         * @return the rule with a file key
+         * @throws IllegalArgumentException if no rule has that key
+         */
+        static Rule forKey(String key) {
+            for (Rule rule : values()) {
+                if (rule.key.equals(key)) {
+                    return rule;
+                }
+            }
+            throw new IllegalArgumentException("Unknown fee rule: " + key);
+        }
+    }
+
+    /** What a rule's value measures, which decides its valid range */
+    private enum Kind { AMOUNT, RATE, RATING }
+
+    /** Built-in schedule matching the constants in Constants */
+    public static final FeeSchedule DEFAULT = new FeeSchedule(defaultValues());
+
+    /** Rule values, indexed by Rule ordinal */
+    private final double[] values;
+
+    // Compiled coefficients, indexed by Constants.TYPE_CODE_*
+    private final double[] baseMultiplier = new double[Constants.MEMBER_TYPE_COUNT];
+    private final double[] sessionCost = new double[Constants.MEMBER_TYPE_COUNT];
+    private final double[] goalMultiplier = new double[Constants.MEMBER_TYPE_COUNT];
+    private final double[] goalDeduction = new double[Constants.MEMBER_TYPE_COUNT];
+    private final int[] bonusRating = new int[Constants.MEMBER_TYPE_COUNT];
+    private final double[] bonus = new double[Constants.MEMBER_TYPE_COUNT];
+    private final int[] penaltyRating = new int[Constants.MEMBER_TYPE_COUNT];
+    private final double[] penalty = new double[Constants.MEMBER_TYPE_COUNT];
+    private final double[] minimumFee = new double[Constants.MEMBER_TYPE_COUNT];
+
+    /**
+     * Constructs a schedule from validated rule values and compiles it.
+     *
+     * @param values rule values indexed by Rule ordinal (not copied)
+     */
+    private FeeSchedule(double[] values) {
+        this.values = values;
+        compile();
+    }
+
+    // ========== LOADING ==========
+
+    /**
+     * Loads a schedule from a properties file. Rules missing from the file
+     * keep their built-in defaults.
+     *
+     * Example line: premium.sessionCost = 27.5
+     *
+     * @param fileName path of the properties file
+     * @return loaded schedule
+     * @throws IOException if the file cannot be read
+     * @throws IllegalArgumentException if a key is unknown or a value is invalid
+     */
+    public static FeeSchedule load(String fileName) throws IOException {
+        Properties properties = new Properties();
+        try (Reader reader = new FileReader(fileName)) {
+            properties.load(reader);
+        }
+        double[] values = defaultValues();
+        for (Map.Entry<Object, Object> entry : properties.entrySet()) {
+            Rule rule = Rule.forKey(((String) entry.getKey()).trim());
+            String text = ((String) entry.getValue()).trim();
+            try {
+                values[rule.ordinal()] = validate(rule, Double.parseDouble(text));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Fee rule " + rule.key + " is not a number: " + text);
+            }
+        }
+        return new FeeSchedule(values);
+    }
+
+    // ========== RULE ACCESS ==========
+
+    /**
+     * @param rule rule to read
+     * @return value of the rule in this schedule
+     */
+    public double get(Rule rule) {
+        return values[rule.ordinal()];
+    }
+
+    /**
+     * Returns a copy of this schedule with one rule changed.
+     *
+     * @param rule rule to change
+     * @param value new value
+     * @return new schedule
+     * @throws IllegalArgumentException if value is outside the rule's valid range
+     */
+    public FeeSchedule with(Rule rule, double value) {
+        double[] copy = values.clone();
+        copy[rule.ordinal()] = validate(rule, value);
+        return new FeeSchedule(copy);
+    }
+
+    /**
+     * @param typeCode membership type (Constants.TYPE_CODE_*)
+     * @return standard base fee of that type, given to new members
+     */
+    public double baseFee(int typeCode) {
+        switch (typeCode) {
+            case Constants.TYPE_CODE_PREMIUM:
+                return get(Rule.PREMIUM_BASE_FEE);
+            case Constants.TYPE_CODE_STUDENT:
+                return get(Rule.STUDENT_BASE_FEE);
+            default:
+                return get(Rule.REGULAR_BASE_FEE);
+        }
+    }
+
+    // ========== EVALUATION ==========
+
+    /**
+     * Calculates one member's monthly fee from its fee inputs.
+     *
+     * @param typeCode membership type (Constants.TYPE_CODE_*)
+     * @param baseFee member's base fee
+     * @param sessions training sessions per month (0 for non-premium types)
+     * @param rating performance rating
+     * @param goalAchieved whether the monthly goal was achieved
+     * @return monthly fee
+     */
+    public double monthlyFee(int typeCode, double baseFee, int sessions, int rating, boolean goalAchieved) {
+        double fee = baseFee * baseMultiplier[typeCode] + sessions * sessionCost[typeCode];
+        if (goalAchieved) {
+            fee = fee * goalMultiplier[typeCode] - goalDeduction[typeCode];
+        }
+        if (rating >= bonusRating[typeCode]) {
+            fee -= bonus[typeCode];
+        }
+        if (rating < penaltyRating[typeCode]) {
+            fee += penalty[typeCode];
+        }
+        return Math.max(fee, minimumFee[typeCode]);
+    }
+
+    /**
+     * Calculates the monthly fees of a columnar batch of members. Batches of
+     * at least Constants.FEE_BATCH_PARALLEL_THRESHOLD members are split into
+     * chunks priced in parallel.
+     *
+     * @param types membership type code of each member
+     * @param baseFees base fee of each member
+     * @param sessions sessions per month of each member
+     * @param ratings performance rating of each member
+     * @param goals goal flag of each member
+     * @param size number of members (the arrays may be longer)
+     * @return monthly fee of each member
+     */
+    public double[] monthlyFees(byte[] types, double[] baseFees, int[] sessions, int[] ratings,
+                                boolean[] goals, int size) {
+        double[] fees = new double[size];
+        if (size < Constants.FEE_BATCH_PARALLEL_THRESHOLD) {
+            monthlyFees(types, baseFees, sessions, ratings, goals, 0, size, fees);
+        } else {
+            int chunks = (size + Constants.FEE_BATCH_CHUNK_SIZE - 1) / Constants.FEE_BATCH_CHUNK_SIZE;
+            IntStream.range(0, chunks).parallel().forEach(chunk -> {
+                int from = chunk * Constants.FEE_BATCH_CHUNK_SIZE;
+                int to = Math.min(size, from + Constants.FEE_BATCH_CHUNK_SIZE);
+                monthlyFees(types, baseFees, sessions, ratings, goals, from, to, fees);
+            });
+        }
+        return fees;
+    }
+
+    /**
+     * Prices rows [from, to) of a batch into fees. This is monthlyFee
+     * inlined over the columns, so the loop touches only primitive arrays.
+     */
+    private void monthlyFees(byte[] types, double[] baseFees, int[] sessions, int[] ratings,
+                             boolean[] goals, int from, int to, double[] fees) {
+        for (int i = from; i < to; i++) {
+            int type = types[i];
+            int rating = ratings[i];
+            double fee = baseFees[i] * baseMultiplier[type] + sessions[i] * sessionCost[type];
+            if (goals[i]) {
+                fee = fee * goalMultiplier[type] - goalDeduction[type];
+            }
+            if (rating >= bonusRating[type]) {
+                fee -= bonus[type];
+            }
+            if (rating < penaltyRating[type]) {
+                fee += penalty[type];
+            }
+            fees[i] = Math.max(fee, minimumFee[type]);
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder("FeeSchedule[");
+        for (Rule rule : Rule.values()) {
+            if (rule.ordinal() > 0) {
+                text.append(", ");
+            }
+            text.append(rule.key).append('=').append(get(rule));
+        }
+        return text.append(']').toString();
+    }
+
+    // ========== INTERNALS ==========
+
+    /**
+     * Compiles the rules into per-type coefficients. Steps a type does not
+     * have get neutral coefficients (multiply by 1, subtract 0, a threshold
+     * no rating reaches, a minimum of negative infinity).
+     */
+    private void compile() {
+        Arrays.fill(baseMultiplier, 1.0);
+        Arrays.fill(goalMultiplier, 1.0);
+        Arrays.fill(bonusRating, Integer.MAX_VALUE);
+        Arrays.fill(penaltyRating, Integer.MIN_VALUE);
+        Arrays.fill(minimumFee, Double.NEGATIVE_INFINITY);
+
+        int regular = Constants.TYPE_CODE_REGULAR;
+        goalMultiplier[regular] = 1 - get(Rule.REGULAR_GOAL_DISCOUNT);
+        penaltyRating[regular] = (int) get(Rule.PENALTY_PERFORMANCE_THRESHOLD);
+        penalty[regular] = get(Rule.LOW_PERFORMANCE_PENALTY);
+
+        int premium = Constants.TYPE_CODE_PREMIUM;
+        sessionCost[premium] = get(Rule.SESSION_COST);
+        goalMultiplier[premium] = 1 - get(Rule.PREMIUM_GOAL_DISCOUNT);
+        bonusRating[premium] = (int) get(Rule.HIGH_PERFORMANCE_THRESHOLD);
+        bonus[premium] = get(Rule.HIGH_PERFORMANCE_BONUS);
+
+        int student = Constants.TYPE_CODE_STUDENT;
+        baseMultiplier[student] = 1 - get(Rule.STUDENT_BASE_DISCOUNT);
+        goalDeduction[student] = get(Rule.STUDENT_GOAL_BONUS);
+        minimumFee[student] = get(Rule.MINIMUM_STUDENT_FEE);
+    }
+
+    /**
+     * @return built-in rule values indexed by Rule ordinal
+     */
+    private static double[] defaultValues() {
+        double[] values = new double[Rule.values().length];
+        for (Rule rule : Rule.values()) {
+            values[rule.ordinal()] = rule.defaultValue;
+        }
+        return values;
+    }
+
+    /**
+     * Checks a rule value against the valid range of its kind.
+     *
+     * @return the value
+     * @throws IllegalArgumentException if the value is out of range
+     */
+    private static double validate(Rule rule, double value) {
+        boolean valid;
+        switch (rule.kind) {
+            case RATE:
+                valid = value >= 0 && value <= 1;
+                break;
+            case RATING:
+                // One above the maximum rating switches the rule off
+                valid = value == Math.rint(value) && value >= Constants.MIN_PERFORMANCE_RATING
+                        && value <= Constants.MAX_PERFORMANCE_RATING + 1;
+                break;
+            default:
+                valid = value >= 0 && !Double.isInfinite(value);
+                break;
+        }
+        if (!valid) {
+            throw new IllegalArgumentException("Invalid value for fee rule " + rule.key + ": " + value);
+        }
+        return value;
+    }
+}
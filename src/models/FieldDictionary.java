@@ -0,0 +1,150 @@
+package models;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import constants.Constants;
+
+/**
+ * Dictionary of the distinct values of one repeated member field.
+ *
+ * Fields such as trainer name, university and email domain take only a
+ * handful of distinct values across a roster, yet every loaded row used to
+ * hold its own String copy. A dictionary stores each distinct value once and
+ * hands out either the shared instance (intern) or a small integer code
+ * (code / value), so a million members reference a few dozen Strings.
+ *
+ * Codes are assigned in first-seen order, never change and are never reused.
+ * The shared dictionaries live as long as the application, so each holds at
+ * most a fixed number of values: once full, new values get NOT_CODED and
+ * callers keep them as plain Strings instead. A field with more distinct
+ * values than that was never a good fit for a dictionary anyway.
+ * Dictionaries are safe to use from several threads; lookups of known
+ * values do not lock.
+ *
+
+ */
+public final class FieldDictionary {
+    /** Shared dictionary of premium member trainer names */
+    public static final FieldDictionary TRAINER_NAMES = new FieldDictionary();
+
+    /** Shared dictionary of student member universities */
+    public static final FieldDictionary UNIVERSITIES = new FieldDictionary();
+
+    /** Shared dictionary of email domains (the part after '@') */
+    public static final FieldDictionary EMAIL_DOMAINS = new FieldDictionary();
+
+    /** Shared dictionary of phone format templates ('#' per digit, e.g. "###-###-####") */
+    public static final FieldDictionary PHONE_FORMATS = new FieldDictionary();
+
+    /** Returned by code() for a new value when the dictionary is full */
+    public static final int NOT_CODED = -1;
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    /** Most distinct values this dictionary stores */
+    private final int capacity;
+
+    /** Code of each value seen so far */
+    private final ConcurrentHashMap<String, Integer> codes = new ConcurrentHashMap<>();
+
+    /** Value of each code; replaced (never modified in place) when it grows */
+    private volatile String[] values = new String[INITIAL_CAPACITY];
+
+    /** Number of codes assigned, guarded by this */
+    private int size;
+
+    /**
+     * Constructs an empty dictionary holding up to Constants.FIELD_DICTIONARY_CAPACITY values.
+     */
+    public FieldDictionary() {
+        this(Constants.FIELD_DICTIONARY_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty dictionary holding up to the given number of values.
+     *
+     * @param capacity most distinct values to store
+     * @throws IllegalArgumentException if capacity is not positive
+     */
+    public FieldDictionary(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Dictionary capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+    }
+
+    /**
+     * Returns the shared instance equal to a value, adding it if new.
+     *
+     * @param value value to intern (may be null)
+     * @return shared instance equal to value, value itself if the dictionary
+     *         is full and does not hold it, or null if value is null
+     */
+    public String intern(String value) {
+        if (value == null) {
+            return null;
+        }
+        int code = code(value);
+        return code == NOT_CODED ? value : value(code);
+    }
+
+    /**
+     * Returns the code of a value, assigning the next code if it is new.
+     *
+     * @param value value to encode
+     * @return code of the value (0 for the first distinct value, then 1, 2, ...),
+     *         or NOT_CODED if it is new and the dictionary is full
+     * @throws IllegalArgumentException if value is null
+     */
+    public int code(String value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Dictionary values cannot be null");
+        }
+        Integer code = codes.get(value);
+        if (code != null) {
+            return code;
+        }
+        synchronized (this) {
+            code = codes.get(value);
+            if (code != null) {
+                return code; // Another thread added it first
+            }
+            if (size == capacity) {
+                return NOT_CODED;
+            }
+            String[] current = values;
+            if (size == current.length) {
+                current = Arrays.copyOf(current, Math.min(size * 2, capacity));
+                values = current;
+            }
+            // Store the value before publishing its code, so any thread that
+            // finds the code also sees the value
+            current[size] = value;
+            codes.put(value, size);
+            return size++;
+        }
+    }
+
+    /**
+     * Returns the value of a code.
+     *
+     * @param code code returned by code()
+     * @return shared value instance
+     * @throws IllegalArgumentException if no value has that code
+     */
+    public String value(int code) {
+        String[] current = values;
+        String value = code >= 0 && code < current.length ? current[code] : null;
+        if (value == null) {
+            throw new IllegalArgumentException("Unknown dictionary code: " + code);
+        }
+        return value;
+    }
+
+    /**
+     * @return number of distinct values stored
+     */
+    public int size() {
+        return codes.size();
+    }
+}
@@ -1,6 +1,11 @@
 package models;
 
+import java.text.Normalizer;
 import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
 import constants.Constants;
 
 /**
@@ -11,64 +16,201 @@ import constants.Constants;
  * different versions of this class.
  * 
  * Demonstrates key OOP principles:
- * - Abstraction: Abstract methods for subclass-specific behavior
+ * - Abstraction: Abstract base class; every member is one of the concrete types
  * - Encapsulation: Private fields with controlled access via getters/setters
  * - Inheritance: Base class for RegularMember, PremiumMember, StudentMember
  * 
+ * The hierarchy is sealed to those three final classes, and every member
+ * carries a MembershipType tag. Fees for every type come from the one
+ * compiled formula of the member's FeeSchedule, keyed by the tag's code,
+ * so a member prices exactly like its row in a columnar batch and hot
+ * loops over mixed member types make no virtual calls at all.
+ * 
+ * Every setter, here and in the subclasses, tells the member's observers
+ * (the managers holding it) before and after it changes a field, so a
+ * manager's sorted views, columns and snapshots follow changes made
+ * directly on a member. Use change() to apply several changes as one.
+ * 
 
  */
-public abstract class Member { // ABSTRACTION: Abstract class cannot be instantiated directly
+public abstract sealed class Member permits RegularMember, PremiumMember, StudentMember { // ABSTRACTION: Abstract class cannot be instantiated directly
     /** Serial version UID for object serialization compatibility */
     
+    /** Combining marks left behind when accented letters are decomposed */
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+    
+    /** Observer list of a member nobody observes */
+    private static final MemberObserver[] NO_OBSERVERS = new MemberObserver[0];
+    
     // ENCAPSULATION: Private fields hide internal data from external access
+    private final MembershipType type; // Type tag, fixed by the subclass
     private String memberId;        // Unique identifier for the member
     private String firstName;       // Member's first name
     private String lastName;        // Member's last name
-    private String email;          // Contact email address
-    private String phone;          // Contact phone number
-    private LocalDate joinDate;    // Date when member joined the gym
-    private double baseFee;        // Base monthly fee for membership type
+    private String fullName;        // Cached first + " " + last name
+    private String nameSearchKey;   // Cached toSearchKey(fullName)
+    private byte[] emailLocalPart; // UTF-8 email address up to the last '@' (whole address if the domain is not coded)
+    private int emailDomainCode;   // EmailCodec domain code, or EmailCodec.NO_DOMAIN
+    private long phoneDigits;      // Digits of the contact phone number, packed by PhoneCodec
+    private int phoneFormatCode;   // PhoneCodec template code, or PhoneCodec.NOT_ENCODABLE
+    private String phoneText;      // Contact phone number kept as text when it cannot be packed
+    private int joinEpochDay;      // Date when member joined the gym, as a LocalDate epoch day
+    private FeeSchedule feeSchedule = FeeSchedule.DEFAULT; // Schedule this member is priced with
+    private boolean standardBaseFee = true; // Whether the base fee is the schedule's standard fee for the type
+    private double baseFee;        // Custom base monthly fee, used only when standardBaseFee is false
     private int performanceRating; // Performance rating on 0-10 scale
     private boolean goalAchieved;  // Whether member achieved monthly goal
+    private volatile double cachedMonthlyFee = Double.NaN; // Last computed monthly fee, NaN when stale
+    private MemberObserver[] observers = NO_OBSERVERS; // Told about changes; replaced, never modified in place
+    private int changeDepth;       // Number of change() calls in progress on this member
     
     /**
      * Constructs a new Member with specified details.
      * 
+     * @param type type tag of the subclass
      * @param memberId unique identifier for the member
      * @param firstName member's first name
      * @param lastName member's last name
      * @param email member's email address
      * @param phone member's phone number
-     * @param baseFee base monthly fee for this membership type
      */
-    public Member(String memberId, String firstName, String lastName, 
-                  String email, String phone, double baseFee) {
+    Member(MembershipType type, String memberId, String firstName, String lastName, 
+           String email, String phone) {
+        this.type = type;
         this.memberId = memberId;
         this.firstName = firstName;
         this.lastName = lastName;
-        this.email = email;
-        this.phone = phone;
-        this.joinDate = LocalDate.now();
-        this.baseFee = baseFee;
+        refreshNameCaches();
+        encodeEmail(email);
+        encodePhone(phone);
+        this.joinEpochDay = (int) LocalDate.now().toEpochDay();
         this.performanceRating = Constants.DEFAULT_PERFORMANCE_RATING;
         this.goalAchieved = Constants.DEFAULT_GOAL_ACHIEVED;
     }
     
     /**
-     * Calculates the monthly fee for this member.
-     * Must be implemented by subclasses to provide type-specific fee calculation.
+     * Returns the monthly fee for this member.
+     * 
+     * The fee is evaluated by the member's FeeSchedule on first request and
+     * cached until a field it depends on (performance rating, goal
+     * achievement, base fee, sessions per month) or the schedule changes.
+     * Observers are told each time the fee is actually computed.
      * 
      * @return calculated monthly fee amount
      */
-    public abstract double calculateMonthlyFee(); // ABSTRACTION: Abstract method forces subclasses to provide implementation
+    public final double calculateMonthlyFee() {
+        double fee = cachedMonthlyFee;
+        if (Double.isNaN(fee)) {
+            // Only premium members pay for sessions; the tag check avoids a virtual call
+            int sessions = type == MembershipType.PREMIUM ? ((PremiumMember) this).getSessionsPerMonth() : 0;
+            fee = feeSchedule.monthlyFee(type.getCode(), getBaseFee(), sessions, performanceRating, goalAchieved);
+            cachedMonthlyFee = fee;
+            for (MemberObserver observer : observers) {
+                observer.feeComputed(this);
+            }
+        }
+        return fee;
+    }
+    
+    /**
+     * Discards the cached monthly fee. Subclasses call this when a field
+     * the fee depends on changes.
+     */
+    protected void invalidateMonthlyFee() {
+        cachedMonthlyFee = Double.NaN;
+    }
+    
+    /**
+     * Registers an observer to be told about every later change to this
+     * member. Registering the same observer again has no effect.
+     * 
+     * @param observer observer to add
+     * @throws IllegalArgumentException if observer is null
+     * @throws IllegalStateException if called while a change is in progress
+     */
+    public final void addObserver(MemberObserver observer) {
+        if (observer == null) {
+            throw new IllegalArgumentException("Observer cannot be null");
+        }
+        if (changeDepth > 0) {
+            throw new IllegalStateException("Cannot add an observer during a change");
+        }
+        for (MemberObserver existing : observers) {
+            if (existing == observer) {
+                return;
+            }
+        }
+        MemberObserver[] grown = Arrays.copyOf(observers, observers.length + 1);
+        grown[observers.length] = observer;
+        observers = grown;
+    }
+    
+    /**
+     * Stops telling an observer about changes to this member.
+     * 
+     * @param observer observer to remove (ignored if not registered)
+     * @throws IllegalStateException if called while a change is in progress
+     */
+    public final void removeObserver(MemberObserver observer) {
+        if (changeDepth > 0) {
+            throw new IllegalStateException("Cannot remove an observer during a change");
+        }
+        for (int i = 0; i < observers.length; i++) {
+            if (observers[i] == observer) {
+                MemberObserver[] shrunk = new MemberObserver[observers.length - 1];
+                System.arraycopy(observers, 0, shrunk, 0, i);
+                System.arraycopy(observers, i + 1, shrunk, i, shrunk.length - i);
+                observers = shrunk.length == 0 ? NO_OBSERVERS : shrunk;
+                return;
+            }
+        }
+    }
+    
+    /**
+     * @return observers currently registered on this member, in registration order
+     */
+    public final List<MemberObserver> getObservers() {
+        return List.of(observers);
+    }
+    
+    /**
+     * Applies several changes as one: observers are told once before the
+     * first and once after the last, so a manager never publishes the
+     * member with only some of the changes applied. Calls may nest.
+     * 
+     * @param changes setter calls to apply to this member
+     */
+    public final void change(Runnable changes) {
+        if (changeDepth++ == 0) {
+            for (MemberObserver observer : observers) {
+                observer.beforeChange(this);
+            }
+        }
+        try {
+            changes.run();
+        } finally {
+            if (--changeDepth == 0) {
+                for (MemberObserver observer : observers) {
+                    observer.afterChange(this);
+                }
+            }
+        }
+    }
+    
+    /**
+     * Returns the type tag of this member. Prefer comparing tags to
+     * comparing getMemberType() strings.
+     * 
+     * @return membership type
+     */
+    public final MembershipType getType() { return type; }
     
     /**
      * Returns the display name for this member's type.
-     * Must be implemented by subclasses to provide type-specific names.
      * 
      * @return string representation of member type
      */
-    public abstract String getMemberType(); // ABSTRACTION: Abstract method forces subclasses to provide implementation
+    public final String getMemberType() { return type.getDisplayName(); }
     
     /**
      * Generates a comprehensive performance report for this member.
@@ -78,10 +220,10 @@ public abstract class Member { // ABSTRACTION: Abstract class cannot be instanti
     public String generatePerformanceReport() {
         StringBuilder report = new StringBuilder();
         report.append("Performance Report for ").append(getFullName()).append("\n");
-        report.append("Member Type: ").append(getMemberType()).append("\n"); // POLYMORPHISM: Calls subclass implementation
+        report.append("Member Type: ").append(getMemberType()).append("\n"); // Display name of the MembershipType tag
         report.append("Performance Rating: ").append(performanceRating).append("/10\n");
         report.append("Goal Achievement: ").append(goalAchieved ? "Yes" : "No").append("\n");
-        report.append("Monthly Fee: $").append(String.format("%.2f", calculateMonthlyFee())).append("\n"); // POLYMORPHISM: Calls subclass implementation
+        report.append("Monthly Fee: $").append(String.format("%.2f", calculateMonthlyFee())).append("\n"); // Priced by the FeeSchedule rules for the tag
         return report.toString();
     }
     
@@ -91,46 +233,188 @@ public abstract class Member { // ABSTRACTION: Abstract class cannot be instanti
     public String getMemberId() { return memberId; } // ENCAPSULATION: Controlled access to private field
     
     /** @param memberId new member ID to set */
-    public void setMemberId(String memberId) { this.memberId = memberId; }
+    public void setMemberId(String memberId) { change(() -> this.memberId = memberId); }
     
     /** @return member's first name */
     public String getFirstName() { return firstName; }
     
     /** @param firstName new first name to set */
-    public void setFirstName(String firstName) { this.firstName = firstName; }
+    public void setFirstName(String firstName) {
+        change(() -> {
+            this.firstName = firstName;
+            refreshNameCaches();
+        });
+    }
     
     /** @return member's last name */
     public String getLastName() { return lastName; }
     
     /** @param lastName new last name to set */
-    public void setLastName(String lastName) { this.lastName = lastName; }
+    public void setLastName(String lastName) {
+        change(() -> {
+            this.lastName = lastName;
+            refreshNameCaches();
+        });
+    }
     
     /** @return member's full name (first + last) */
-    public String getFullName() { return firstName + " " + lastName; }
+    public String getFullName() { return fullName; }
+    
+    /**
+     * Returns the full name normalized for searching: accents removed and
+     * case folded, so "Zoë O'Brien" has the key "zoe o'brien". Compare it
+     * with a search term passed through toSearchKey.
+     * 
+     * @return cached search key of the full name
+     */
+    public String getNameSearchKey() { return nameSearchKey; }
+    
+    /**
+     * Normalizes text for accent- and case-insensitive matching against
+     * getNameSearchKey().
+     * 
+     * @param text text to normalize
+     * @return text with accents stripped and letters lower-cased
+     */
+    public static String toSearchKey(String text) {
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        return COMBINING_MARKS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+    
+    /**
+     * Recomputes the cached full name and search key after a name change.
+     */
+    private void refreshNameCaches() {
+        this.fullName = firstName + " " + lastName;
+        this.nameSearchKey = toSearchKey(fullName);
+    }
     
     /** @return member's email address */
-    public String getEmail() { return email; }
+    public String getEmail() { return EmailCodec.decode(emailLocalPart, emailDomainCode); }
     
     /** @param email new email address to set */
-    public void setEmail(String email) { this.email = email; }
+    public void setEmail(String email) { change(() -> encodeEmail(email)); }
+    
+    /**
+     * Stores an email address as the UTF-8 bytes of its local part plus a
+     * shared domain code (see EmailCodec).
+     * 
+     * @param email email address to store (may be null)
+     */
+    private void encodeEmail(String email) {
+        this.emailDomainCode = EmailCodec.domainCode(email);
+        this.emailLocalPart = EmailCodec.localPart(email, emailDomainCode);
+    }
     
     /** @return member's phone number */
-    public String getPhone() { return phone; }
+    public String getPhone() {
+        if (phoneFormatCode == PhoneCodec.NOT_ENCODABLE) {
+            return phoneText;
+        }
+        return PhoneCodec.decode(phoneDigits, phoneFormatCode);
+    }
     
     /** @param phone new phone number to set */
-    public void setPhone(String phone) { this.phone = phone; }
+    public void setPhone(String phone) { change(() -> encodePhone(phone)); }
+    
+    /**
+     * Stores a phone number as packed digits plus a shared format template,
+     * falling back to the text for phones PhoneCodec cannot pack.
+     * 
+     * @param phone phone number to store (may be null)
+     */
+    private void encodePhone(String phone) {
+        this.phoneFormatCode = PhoneCodec.formatCode(phone);
+        if (phoneFormatCode == PhoneCodec.NOT_ENCODABLE) {
+            this.phoneDigits = 0;
+            this.phoneText = phone;
+        } else {
+            this.phoneDigits = PhoneCodec.digits(phone);
+            this.phoneText = null;
+        }
+    }
     
     /** @return date when member joined */
-    public LocalDate getJoinDate() { return joinDate; }
+    public LocalDate getJoinDate() { return LocalDate.ofEpochDay(joinEpochDay); }
+    
+    /**
+     * Returns the join date as a day count, for comparisons and keys that
+     * should not build a LocalDate per member.
+     * 
+     * @return join date as a LocalDate epoch day (days since 1970-01-01)
+     */
+    public int getJoinEpochDay() { return joinEpochDay; }
+    
+    /**
+     * Sets the join date.
+     * 
+     * @param joinDate new join date to set
+     * @throws IllegalArgumentException if joinDate is null
+     */
+    public void setJoinDate(LocalDate joinDate) {
+        if (joinDate == null) {
+            throw new IllegalArgumentException("Join date cannot be null");
+        }
+        change(() -> this.joinEpochDay = (int) joinDate.toEpochDay());
+    }
     
-    /** @param joinDate new join date to set */
-    public void setJoinDate(LocalDate joinDate) { this.joinDate = joinDate; }
+    /**
+     * Returns the base monthly fee: the fee schedule's standard fee for this
+     * membership type, unless a custom base fee was set.
+     * 
+     * @return base monthly fee
+     */
+    public double getBaseFee() { return standardBaseFee ? feeSchedule.baseFee(type.getCode()) : baseFee; }
     
-    /** @return base monthly fee for this membership type */
-    public double getBaseFee() { return baseFee; }
+    /**
+     * Gives this member a custom base fee, kept when the fee schedule changes.
+     * 
+     * @param baseFee new base fee to set
+     */
+    public void setBaseFee(double baseFee) {
+        change(() -> {
+            this.baseFee = baseFee;
+            this.standardBaseFee = false;
+            invalidateMonthlyFee();
+        });
+    }
     
-    /** @param baseFee new base fee to set */
-    public void setBaseFee(double baseFee) { this.baseFee = baseFee; }
+    /**
+     * @return whether the base fee is the fee schedule's standard fee for this
+     *         membership type rather than a custom fee
+     */
+    public boolean hasStandardBaseFee() { return standardBaseFee; }
+    
+    /**
+     * Drops any custom base fee, so the base fee follows the fee schedule's
+     * standard fee for this membership type again.
+     */
+    public void useStandardBaseFee() {
+        change(() -> {
+            this.standardBaseFee = true;
+            invalidateMonthlyFee();
+        });
+    }
+    
+    /** @return fee schedule this member is priced with */
+    public FeeSchedule getFeeSchedule() { return feeSchedule; }
+    
+    /**
+     * Prices this member with a fee schedule. A MemberManager sets its own
+     * schedule on every member it holds (see MemberManager.applyFeeSchedule).
+     * 
+     * @param feeSchedule schedule to price with
+     * @throws IllegalArgumentException if feeSchedule is null
+     */
+    public void setFeeSchedule(FeeSchedule feeSchedule) {
+        if (feeSchedule == null) {
+            throw new IllegalArgumentException("Fee schedule cannot be null");
+        }
+        change(() -> {
+            this.feeSchedule = feeSchedule;
+            invalidateMonthlyFee();
+        });
+    }
     
     /** @return current performance rating (0-10) */
     public int getPerformanceRating() { return performanceRating; }
@@ -144,7 +428,10 @@ public abstract class Member { // ABSTRACTION: Abstract class cannot be instanti
     public void setPerformanceRating(int performanceRating) { // ENCAPSULATION: Controlled modification with validation
         if (performanceRating >= Constants.MIN_PERFORMANCE_RATING && 
             performanceRating <= Constants.MAX_PERFORMANCE_RATING) {
-            this.performanceRating = performanceRating;
+            change(() -> {
+                this.performanceRating = performanceRating;
+                invalidateMonthlyFee();
+            });
         }
     }
     
@@ -152,7 +439,12 @@ public abstract class Member { // ABSTRACTION: Abstract class cannot be instanti
     public boolean isGoalAchieved() { return goalAchieved; }
     
     /** @param goalAchieved new goal achievement status */
-    public void setGoalAchieved(boolean goalAchieved) { this.goalAchieved = goalAchieved; }
+    public void setGoalAchieved(boolean goalAchieved) {
+        change(() -> {
+            this.goalAchieved = goalAchieved;
+            invalidateMonthlyFee();
+        });
+    }
     
     /**
      * Returns a string representation of the member.
@@ -162,6 +454,6 @@ public abstract class Member { // ABSTRACTION: Abstract class cannot be instanti
     @Override
     public String toString() {
         return String.format("Member ID: %s | Name: %s | Type: %s | Rating: %d/10 | Fee: $%.2f",
-                memberId, getFullName(), getMemberType(), performanceRating, calculateMonthlyFee()); // POLYMORPHISM: getMemberType() and calculateMonthlyFee() call subclass implementations
+                memberId, getFullName(), getMemberType(), performanceRating, calculateMonthlyFee()); // Type name and fee both follow the MembershipType tag
     }
 }
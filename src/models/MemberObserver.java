@@ -0,0 +1,36 @@
+package models;
+
+/**
+ * Receives notice of changes to a member, so that structures holding
+ * derived copies of its fields (sorted views, columns, snapshots) can keep
+ * up with changes made through the member's own setters.
+ *
+ * beforeChange is called while the member still has its old values and
+ * afterChange once every change in the batch has been applied (see
+ * Member.change). Observers must not change the member from either call.
+ *
+ */
+public interface MemberObserver {
+    /**
+     * Called before the first field of a change is modified.
+     *
+     * @param member member about to change
+     */
+    void beforeChange(Member member);
+
+    /**
+     * Called after the last field of a change was modified.
+     *
+     * @param member member that changed
+     */
+    void afterChange(Member member);
+
+    /**
+     * Called when the member's monthly fee was computed rather than served
+     * from its cache. May be called from any thread reading the fee.
+     *
+     * @param member member whose fee was computed
+     */
+    default void feeComputed(Member member) {
+    }
+}
@@ -0,0 +1,141 @@
+package models;
+
+import java.time.LocalDate;
+
+/**
+ * Immutable copy of a member's state at one moment.
+ *
+ * Members are mutable and shared, so a reader iterating the roster while
+ * another thread updates it can see a member with some fields changed and
+ * others not. A snapshot copies every field, including the monthly fee and
+ * the type-specific details, and never changes afterwards, so it can be
+ * read from any thread without locking.
+ *
+ * Fields that do not apply to the member's type are null (or 0 sessions).
+ *
+ */
+public final class MemberSnapshot {
+    private final MembershipType type;
+    private final String memberId;
+    private final String firstName;
+    private final String lastName;
+    private final String fullName;
+    private final String email;
+    private final String phone;
+    private final int joinEpochDay;
+    private final double baseFee;
+    private final int performanceRating;
+    private final boolean goalAchieved;
+    private final double monthlyFee;
+    private final String trainerName;   // Premium members only
+    private final int sessionsPerMonth; // Premium members only
+    private final String studentId;     // Student members only
+    private final String university;    // Student members only
+
+    /**
+     * Copies the current state of a member.
+     *
+     * @param member member to copy
+     */
+    private MemberSnapshot(Member member) {
+        this.type = member.getType();
+        this.memberId = member.getMemberId();
+        this.firstName = member.getFirstName();
+        this.lastName = member.getLastName();
+        this.fullName = member.getFullName();
+        this.email = member.getEmail();
+        this.phone = member.getPhone();
+        this.joinEpochDay = member.getJoinEpochDay();
+        this.baseFee = member.getBaseFee();
+        this.performanceRating = member.getPerformanceRating();
+        this.goalAchieved = member.isGoalAchieved();
+        this.monthlyFee = member.calculateMonthlyFee();
+        switch (type) {
+            case PREMIUM:
+                PremiumMember pm = (PremiumMember) member;
+                this.trainerName = pm.getTrainerName();
+                this.sessionsPerMonth = pm.getSessionsPerMonth();
+                this.studentId = null;
+                this.university = null;
+                break;
+            case STUDENT:
+                StudentMember sm = (StudentMember) member;
+                this.trainerName = null;
+                this.sessionsPerMonth = 0;
+                this.studentId = sm.getStudentId();
+                this.university = sm.getUniversity();
+                break;
+            default:
+                this.trainerName = null;
+                this.sessionsPerMonth = 0;
+                this.studentId = null;
+                this.university = null;
+                break;
+        }
+    }
+
+    /**
+     * Takes a snapshot of a member.
+     *
+     * @param member member to copy (must not be changed by another thread during the call)
+     * @return immutable copy of the member's current state
+     * @throws IllegalArgumentException if member is null
+     */
+    public static MemberSnapshot of(Member member) {
+        if (member == null) {
+            throw new IllegalArgumentException("Member cannot be null");
+        }
+        return new MemberSnapshot(member);
+    }
+
+    /** @return type tag of the member */
+    public MembershipType getType() { return type; }
+
+    /** @return display name of the membership type */
+    public String getMemberType() { return type.getDisplayName(); }
+
+    /** @return member ID */
+    public String getMemberId() { return memberId; }
+
+    /** @return first name */
+    public String getFirstName() { return firstName; }
+
+    /** @return last name */
+    public String getLastName() { return lastName; }
+
+    /** @return first and last name separated by a space */
+    public String getFullName() { return fullName; }
+
+    /** @return email address */
+    public String getEmail() { return email; }
+
+    /** @return phone number */
+    public String getPhone() { return phone; }
+
+    /** @return date the member joined */
+    public LocalDate getJoinDate() { return LocalDate.ofEpochDay(joinEpochDay); }
+
+    /** @return base monthly fee */
+    public double getBaseFee() { return baseFee; }
+
+    /** @return performance rating on the 0-10 scale */
+    public int getPerformanceRating() { return performanceRating; }
+
+    /** @return whether the monthly goal was achieved */
+    public boolean isGoalAchieved() { return goalAchieved; }
+
+    /** @return monthly fee when the snapshot was taken */
+    public double getMonthlyFee() { return monthlyFee; }
+
+    /** @return personal trainer of a premium member, otherwise null */
+    public String getTrainerName() { return trainerName; }
+
+    /** @return training sessions per month of a premium member, otherwise 0 */
+    public int getSessionsPerMonth() { return sessionsPerMonth; }
+
+    /** @return student ID of a student member, otherwise null */
+    public String getStudentId() { return studentId; }
+
+    /** @return university of a student member, otherwise null */
+    public String getUniversity() { return university; }
+}
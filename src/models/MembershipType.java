@@ -0,0 +1,84 @@
+package models;
+
+import constants.Constants;
+
+/**
+ * Type tag of a member, fixed when the member is created.
+ *
+ * Code that needs a member's type reads this tag (one field load) and
+ * switches on it, instead of comparing getMemberType() display Strings.
+ * Because Member is sealed to exactly these three types, a switch over the
+ * tag covers every member. FeeSchedule keys its pricing rules by the tag's
+ * code, so the types differ in price through data, not overrides.
+ *
+
+ */
+public enum MembershipType {
+    // Sorting by type has always ordered display names alphabetically, so the
+    // sort ranks follow that order: Premium, Regular, Student
+    REGULAR(Constants.TYPE_CODE_REGULAR, Constants.MEMBER_TYPE_REGULAR, Constants.DISPLAY_REGULAR_MEMBERSHIP, 1),
+    PREMIUM(Constants.TYPE_CODE_PREMIUM, Constants.MEMBER_TYPE_PREMIUM, Constants.DISPLAY_PREMIUM_MEMBERSHIP, 0),
+    STUDENT(Constants.TYPE_CODE_STUDENT, Constants.MEMBER_TYPE_STUDENT, Constants.DISPLAY_STUDENT_MEMBERSHIP, 2);
+
+    /** Types indexed by code */
+    private static final MembershipType[] BY_CODE = new MembershipType[Constants.MEMBER_TYPE_COUNT];
+
+    static {
+        for (MembershipType type : values()) {
+            BY_CODE[type.code] = type;
+        }
+    }
+
+    private final byte code;
+    private final String csvName;
+    private final String displayName;
+    private final int sortRank;
+
+    MembershipType(byte code, String csvName, String displayName, int sortRank) {
+        this.code = code;
+        this.csvName = csvName;
+        this.displayName = displayName;
+        this.sortRank = sortRank;
+    }
+
+    /** @return numeric code used in fee tables and columnar data (Constants.TYPE_CODE_*) */
+    public byte getCode() { return code; }
+
+    /** @return name of the type in the CSV Type column, e.g. "Premium" */
+    public String getCsvName() { return csvName; }
+
+    /** @return display name of the type, as returned by Member.getMemberType() */
+    public String getDisplayName() { return displayName; }
+
+    /** @return position of this type when members are sorted by type (alphabetical display name order) */
+    public int getSortRank() { return sortRank; }
+
+    /**
+     * Finds the type with a numeric code.
+     *
+     * @param code type code (Constants.TYPE_CODE_*)
+     * @return type with that code
+     * @throws IllegalArgumentException if no type has that code
+     */
+    public static MembershipType forCode(int code) {
+        if (code < 0 || code >= BY_CODE.length) {
+            throw new IllegalArgumentException("Unknown membership type code: " + code);
+        }
+        return BY_CODE[code];
+    }
+
+    /**
+     * Finds the type named in a CSV Type column.
+     *
+     * @param csvName type name, e.g. "Student"
+     * @return matching type, or null if the name is not a membership type
+     */
+    public static MembershipType forCsvName(String csvName) {
+        for (MembershipType type : values()) {
+            if (type.csvName.equals(csvName)) {
+                return type;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,102 @@
+package models;
+
+/**
+ * Packs phone numbers into a long of digits plus a shared format template.
+ *
+ * A phone such as "123-456-7890" is stored as the number 1234567890 and the
+ * template "###-###-####", where each '#' marks a digit position. Templates
+ * are kept in FieldDictionary.PHONE_FORMATS, so a roster that writes phones
+ * in a few layouts stores each layout once and every member holds only a
+ * long and a template code. Leading zeros survive because the template
+ * records how many digits there are.
+ *
+ * Phones with more than MAX_DIGITS digits, that contain '#' themselves, or
+ * whose template is new once PHONE_FORMATS is full, cannot be packed;
+ * callers keep those as plain Strings.
+ *
+
+ */
+public final class PhoneCodec {
+    /** Returned by formatCode for phones that cannot be packed */
+    public static final int NOT_ENCODABLE = -1;
+
+    /** Most digits a packed phone can hold (every 18-digit number fits in a long) */
+    public static final int MAX_DIGITS = 18;
+
+    /** Marks a digit position in a format template */
+    private static final char DIGIT_SLOT = '#';
+
+    /**
+     * Private constructor to prevent instantiation of utility class.
+     *
+     * @throws AssertionError if instantiation is attempted
+     */
+    private PhoneCodec() {
+        throw new AssertionError("PhoneCodec class should not be instantiated");
+    }
+
+    /**
+     * Returns the template code of a phone, registering its template if new.
+     *
+     * @param phone phone to encode (may be null)
+     * @return FieldDictionary.PHONE_FORMATS code, or NOT_ENCODABLE
+     */
+    public static int formatCode(String phone) {
+        if (phone == null) {
+            return NOT_ENCODABLE;
+        }
+        char[] template = phone.toCharArray();
+        int digitCount = 0;
+        for (int i = 0; i < template.length; i++) {
+            char c = template[i];
+            if (c == DIGIT_SLOT) {
+                return NOT_ENCODABLE; // Would be read back as a digit
+            }
+            if (c >= '0' && c <= '9') {
+                template[i] = DIGIT_SLOT;
+                digitCount++;
+            }
+        }
+        if (digitCount > MAX_DIGITS) {
+            return NOT_ENCODABLE;
+        }
+        int code = FieldDictionary.PHONE_FORMATS.code(new String(template));
+        return code == FieldDictionary.NOT_CODED ? NOT_ENCODABLE : code;
+    }
+
+    /**
+     * Packs the digits of a phone, in order, into a number.
+     *
+     * @param phone phone whose formatCode is not NOT_ENCODABLE
+     * @return the phone's digits read as one decimal number
+     */
+    public static long digits(String phone) {
+        long digits = 0;
+        for (int i = 0; i < phone.length(); i++) {
+            char c = phone.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits = digits * 10 + (c - '0');
+            }
+        }
+        return digits;
+    }
+
+    /**
+     * Rebuilds a phone from its packed digits and template.
+     *
+     * @param digits packed digits from digits()
+     * @param formatCode template code from formatCode()
+     * @return the original phone string
+     */
+    public static String decode(long digits, int formatCode) {
+        char[] phone = FieldDictionary.PHONE_FORMATS.value(formatCode).toCharArray();
+        // Fill digit slots from the right so the lowest digit lands last
+        for (int i = phone.length - 1; i >= 0; i--) {
+            if (phone[i] == DIGIT_SLOT) {
+                phone[i] = (char) ('0' + digits % 10);
+                digits /= 10;
+            }
+        }
+        return new String(phone);
+    }
+}
@@ -1,27 +1,27 @@
 package models;
 
-import constants.Constants;
-
 /**
  * Premium gym member with personal trainer and enhanced benefits.
  * 
- * Extends Member base class to provide specific implementation for:
+ * Priced by the member's FeeSchedule, whose default rules give:
  * - Personal training sessions with associated costs
  * - Goal achievement discount (15%)
  * - High performance bonus for ratings 8 and above
  * 
- * Demonstrates inheritance and polymorphism from Member base class.
+ * Demonstrates inheritance from the Member base class, adding its own
+ * fields. Pricing is not overridden here; it comes from the FeeSchedule
+ * rules for MembershipType.PREMIUM.
  *
 
  */
-public class PremiumMember extends Member { // INHERITANCE: Extends Member base class
+public final class PremiumMember extends Member { // INHERITANCE: Extends Member base class
     // ENCAPSULATION: Additional private fields specific to premium members
     private String trainerName;      // Assigned personal trainer
     private int sessionsPerMonth;    // Number of training sessions per month
     
     /**
      * Constructs a new PremiumMember with specified details.
-     * Automatically sets the base fee to the premium member rate.
+     * The base fee follows the fee schedule's premium rate until a custom fee is set.
      * 
      * @param memberId unique identifier for the member
      * @param firstName member's first name
@@ -33,61 +33,27 @@ public class PremiumMember extends Member { // INHERITANCE: Extends Member base
      */
     public PremiumMember(String memberId, String firstName, String lastName,
                         String email, String phone, String trainerName, int sessionsPerMonth) {
-        super(memberId, firstName, lastName, email, phone, Constants.PREMIUM_BASE_FEE); // INHERITANCE: Call parent constructor
-        this.trainerName = trainerName;
+        super(MembershipType.PREMIUM, memberId, firstName, lastName, email, phone); // INHERITANCE: Call parent constructor
+        this.trainerName = FieldDictionary.TRAINER_NAMES.intern(trainerName); // Shared instance per distinct value
         this.sessionsPerMonth = sessionsPerMonth;
     }
     
-    /**
-     * Calculates monthly fee for premium members.
-     * 
-     * Fee calculation includes:
-     * - Base fee for premium membership
-     * - Cost for personal training sessions
-     * - 15% discount if goal achieved
-     * - $20 bonus discount for high performance (rating ≥ 8)
-     * 
-     * @return calculated monthly fee
-     */
-    @Override // POLYMORPHISM: Override abstract method from parent class
-    public double calculateMonthlyFee() {
-        double fee = getBaseFee(); // INHERITANCE: Use method inherited from parent class
-        
-        // Add cost for personal training sessions
-        fee += (sessionsPerMonth * Constants.SESSION_COST);
-        
-        // Apply goal achievement discount
-        if (isGoalAchieved()) { // INHERITANCE: Use method inherited from parent class
-            fee = fee * (1 - Constants.PREMIUM_GOAL_ACHIEVEMENT_DISCOUNT);
-        }
-        
-        // Apply high performance bonus
-        if (getPerformanceRating() >= Constants.HIGH_PERFORMANCE_THRESHOLD) { // INHERITANCE: Use method inherited from parent class
-            fee -= Constants.HIGH_PERFORMANCE_BONUS;
-        }
-        
-        return fee;
-    }
-    
-    /**
-     * Returns the display name for premium membership.
-     * 
-     * @return "Premium Membership (Personal Trainer)"
-     */
-    @Override // POLYMORPHISM: Override abstract method from parent class
-    public String getMemberType() {
-        return Constants.DISPLAY_PREMIUM_MEMBERSHIP;
-    }
-    
     /** @return assigned trainer's name */
     public String getTrainerName() { return trainerName; } // ENCAPSULATION: Controlled access to private field
     
     /** @param trainerName new trainer name to assign */
-    public void setTrainerName(String trainerName) { this.trainerName = trainerName; }
+    public void setTrainerName(String trainerName) {
+        change(() -> this.trainerName = FieldDictionary.TRAINER_NAMES.intern(trainerName));
+    }
     
     /** @return number of training sessions per month */
     public int getSessionsPerMonth() { return sessionsPerMonth; }
     
     /** @param sessionsPerMonth new number of sessions to set */
-    public void setSessionsPerMonth(int sessionsPerMonth) { this.sessionsPerMonth = sessionsPerMonth; }
+    public void setSessionsPerMonth(int sessionsPerMonth) {
+        change(() -> {
+            this.sessionsPerMonth = sessionsPerMonth;
+            invalidateMonthlyFee(); // Session cost is part of the fee
+        });
+    }
 }
@@ -10,6 +10,8 @@ import java.io.IOException;
 import java.util.*;
 import java.util.List;
 import manager.MemberManager;
+import manager.MemberPage;
+import manager.RosterSnapshot;
 import models.*;
 import constants.Constants;
 
@@ -33,6 +35,9 @@ public class MemberManagementGUI extends JFrame {
     private JTextField searchField;
     private JComboBox<String> searchTypeCombo;
     private JComboBox<String> sortCombo;
+    private JButton nextPageButton;
+    private java.util.function.Function<String, MemberPage> pageQuery; // Paged search being shown, or null
+    private String nextPageCursor;
     
     /**
      * Constructs the main GUI window and initializes all components.
@@ -113,10 +118,15 @@ public class MemberManagementGUI extends JFrame {
         searchButton.addActionListener(e -> performSearch());
         mainPanel.add(searchButton);
         
+        nextPageButton = new JButton("Next Page");
+        nextPageButton.setEnabled(false);
+        nextPageButton.addActionListener(e -> showNextPage());
+        mainPanel.add(nextPageButton);
+        
         // Sort components
         mainPanel.add(Box.createHorizontalStrut(20));
         mainPanel.add(new JLabel("Sort by:"));
-        sortCombo = new JComboBox<>(new String[]{"Member ID", "Name", "Type", "Performance", "Fee"});
+        sortCombo = new JComboBox<>(new String[]{"Member ID", "Name", "Type", "Performance", "Fee", "Join Date"});
         sortCombo.addActionListener(e -> sortMembers());
         mainPanel.add(sortCombo);
         
@@ -191,6 +201,15 @@ public class MemberManagementGUI extends JFrame {
         // First create initial data file if it doesn't exist
         createInitialDataFile();
         
+        // Fee schedule file is optional - without it the built-in fees apply
+        if (new java.io.File(Constants.DEFAULT_FEE_SCHEDULE_FILE).exists()) {
+            try {
+                manager.loadFeeSchedule(Constants.DEFAULT_FEE_SCHEDULE_FILE);
+            } catch (IOException | IllegalArgumentException e) {
+                System.out.println("Using built-in fees: " + e.getMessage());
+            }
+        }
+        
         try {
             manager.loadFromFile(Constants.DEFAULT_FILE_NAME);
             refreshTable();
@@ -234,9 +253,11 @@ public class MemberManagementGUI extends JFrame {
      */
     private void refreshTable() {
         tableModel.setRowCount(0);
-        List<Member> members = manager.getAllMembers();
+        endPaging();
         
-        for (Member member : members) {
+        // Read one roster version, so every row reflects the same moment without copying the roster
+        RosterSnapshot snapshot = manager.getRosterSnapshot();
+        for (MemberSnapshot member : snapshot) {
             Object[] row = {
                 member.getMemberId(),
                 member.getFullName(),
@@ -245,7 +266,7 @@ public class MemberManagementGUI extends JFrame {
                 member.getPhone(),
                 member.getPerformanceRating() + "/10",
                 member.isGoalAchieved() ? "Yes" : "No",
-                String.format("$%.2f", member.calculateMonthlyFee())
+                String.format("$%.2f", member.getMonthlyFee())
             };
             tableModel.addRow(row);
         }
@@ -264,18 +285,21 @@ public class MemberManagementGUI extends JFrame {
         }
         
         tableModel.setRowCount(0);
+        endPaging();
         List<Member> results = new ArrayList<>();
+        int shown = 0;
         
         switch (searchType) {
             case "All":
-                results = manager.getAllMembers();
+                shown = showFirstPage(cursor -> manager.getMembersPage(cursor, Constants.DEFAULT_PAGE_SIZE));
                 break;
             case "By ID":
                 Member member = manager.findMemberById(searchText);
                 if (member != null) results.add(member);
                 break;
             case "By Name":
-                results = manager.findMembersByName(searchText);
+                // Show the first page of matches; Next Page resumes from its cursor
+                shown = showFirstPage(cursor -> manager.findMembersByNamePage(searchText, cursor, Constants.DEFAULT_PAGE_SIZE));
                 break;
             case "By Performance":
                 try {
@@ -289,62 +313,114 @@ public class MemberManagementGUI extends JFrame {
         }
         
         for (Member m : results) {
-            Object[] row = {
-                m.getMemberId(),
-                m.getFullName(),
-                m.getMemberType(),
-                m.getEmail(),
-                m.getPhone(),
-                m.getPerformanceRating() + "/10",
-                m.isGoalAchieved() ? "Yes" : "No",
-                String.format("$%.2f", m.calculateMonthlyFee())
-            };
-            tableModel.addRow(row);
+            addMemberRow(m);
         }
         
-        if (results.isEmpty()) {
+        if (shown + results.size() == 0) {
             JOptionPane.showMessageDialog(this, "No members found matching the search criteria.", "Search Results", JOptionPane.INFORMATION_MESSAGE);
         }
     }
     
+    /**
+     * Starts a paged search and adds its first page to the table.
+     * 
+     * @param query fetches the page after a cursor (null for the first page)
+     * @return number of members added
+     */
+    private int showFirstPage(java.util.function.Function<String, MemberPage> query) {
+        pageQuery = query;
+        return showPage(null);
+    }
+    
+    /**
+     * Replaces the table with the next page of the paged search being shown.
+     */
+    private void showNextPage() {
+        if (pageQuery == null || nextPageCursor == null) {
+            return;
+        }
+        tableModel.setRowCount(0);
+        showPage(nextPageCursor);
+    }
+    
+    /**
+     * Adds one page of the current paged search to the table and remembers
+     * where the following page starts.
+     * 
+     * @param cursor cursor of the page to show, or null for the first page
+     * @return number of members added
+     */
+    private int showPage(String cursor) {
+        MemberPage page = pageQuery.apply(cursor);
+        for (Member member : page.getMembers()) {
+            addMemberRow(member);
+        }
+        nextPageCursor = page.getNextCursor();
+        nextPageButton.setEnabled(page.hasMore());
+        return page.size();
+    }
+    
+    /**
+     * Forgets the paged search being shown, once the table shows something else.
+     */
+    private void endPaging() {
+        pageQuery = null;
+        nextPageCursor = null;
+        nextPageButton.setEnabled(false);
+    }
+    
+    /**
+     * Adds one member as a table row.
+     * 
+     * @param m member to show
+     */
+    private void addMemberRow(Member m) {
+        Object[] row = {
+            m.getMemberId(),
+            m.getFullName(),
+            m.getMemberType(),
+            m.getEmail(),
+            m.getPhone(),
+            m.getPerformanceRating() + "/10",
+            m.isGoalAchieved() ? "Yes" : "No",
+            String.format("$%.2f", m.calculateMonthlyFee())
+        };
+        tableModel.addRow(row);
+    }
+    
     /**
      * Sorts members based on selected criteria.
      */
     private void sortMembers() {
         String sortBy = (String) sortCombo.getSelectedItem();
-        List<Member> members = manager.getAllMembers();
+        Collection<Member> members;
         
+        // Maintained views are kept sorted by the manager, so switching order does not re-sort
         switch (sortBy) {
-            case "Member ID":
-                members.sort(Comparator.comparing(Member::getMemberId));
-                break;
             case "Name":
-                members.sort(Comparator.comparing(Member::getFullName));
+                members = manager.maintainedView("name", true);
                 break;
             case "Type":
-                members.sort(Comparator.comparing(Member::getMemberType));
+                members = manager.maintainedView("type", true);
                 break;
             case "Performance":
-                members.sort(Comparator.comparing(Member::getPerformanceRating).reversed());
+                members = manager.maintainedView("performance", false);
                 break;
             case "Fee":
-                members.sort(Comparator.comparing(Member::calculateMonthlyFee).reversed());
+                members = manager.maintainedView("fee", false);
+                break;
+            case "Join Date":
+                members = manager.maintainedView("joinDate", true);
+                break;
+            default:
+                members = manager.maintainedView("id", true);
                 break;
         }
         
         tableModel.setRowCount(0);
+        endPaging();
         for (Member member : members) {
-            Object[] row = {
-                member.getMemberId(),
-                member.getFullName(),
-                member.getMemberType(),
-                member.getEmail(),
-                member.getPhone(),
-                member.getPerformanceRating() + "/10",
-                member.isGoalAchieved() ? "Yes" : "No",
-                String.format("$%.2f", member.calculateMonthlyFee())
-            };
-            tableModel.addRow(row);
+            addMemberRow(member);
         }
     }
     
@@ -765,8 +841,8 @@ public class MemberManagementGUI extends JFrame {
         details.append("=".repeat(50)).append("\n\n");
         
         double totalFees = 0;
-        for (Member member : manager.getAllMembers()) {
-            double fee = member.calculateMonthlyFee();
+        for (MemberSnapshot member : manager.getRosterSnapshot()) {
+            double fee = member.getMonthlyFee();
             totalFees += fee;
             details.append(String.format("%-15s | %-25s | $%.2f%n", 
                 member.getMemberId(), member.getFullName(), fee));
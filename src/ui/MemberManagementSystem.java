@@ -39,6 +39,7 @@ public class MemberManagementSystem {
     public static void main(String[] args) {
         // Create initial data file with sample members if it doesn't exist
         createInitialDataFile();
+        loadFeeSchedule();
         
         boolean running = true;
         
@@ -352,6 +353,7 @@ public class MemberManagementSystem {
         System.out.println("1. Generate appreciation letters");
         System.out.println("2. Generate reminder letters");
         System.out.println("3. View fee details for all members");
+        System.out.println("4. Simulate a price change");
         System.out.print("Select option: ");
         
         try {
@@ -381,8 +383,8 @@ public class MemberManagementSystem {
                 case 3:
                     System.out.println("\n=== Monthly Fee Details ===");
                     double totalFees = 0;
-                    for (Member member : manager.getAllMembers()) { // POLYMORPHISM: Iterate through different member types
-                        double fee = member.calculateMonthlyFee(); // POLYMORPHISM: Calls subclass-specific fee calculation
+                    for (MemberSnapshot member : manager.getRosterSnapshot()) { // One consistent roster version
+                        double fee = member.getMonthlyFee();
                         totalFees += fee;
                         System.out.printf("%s - %s: $%.2f%n", 
                             member.getMemberId(), member.getFullName(), fee);
@@ -390,6 +392,10 @@ public class MemberManagementSystem {
                     System.out.printf("Total Monthly Revenue: $%.2f%n", totalFees);
                     break;
                     
+                case 4:
+                    simulatePriceChange();
+                    break;
+                    
                 default:
                     System.out.println("Invalid option.");
             }
@@ -398,6 +404,35 @@ public class MemberManagementSystem {
         }
     }
     
+    /**
+     * Pricing simulation mode: shows the revenue impact of changing one fee
+     * rule, without changing any member or the prices in effect.
+     */
+    private static void simulatePriceChange() {
+        FeeSchedule current = manager.getFeeSchedule();
+        System.out.println("\n=== Fee Rules ===");
+        for (FeeSchedule.Rule rule : FeeSchedule.Rule.values()) {
+            System.out.printf("%-32s %s%n", rule.getKey(), current.get(rule));
+        }
+        System.out.print("Rule to change: ");
+        String key = scanner.nextLine().trim();
+        FeeSchedule.Rule changed = null;
+        for (FeeSchedule.Rule rule : FeeSchedule.Rule.values()) {
+            if (rule.getKey().equalsIgnoreCase(key)) {
+                changed = rule;
+            }
+        }
+        if (changed == null) {
+            System.out.println("Unknown rule: " + key);
+            return;
+        }
+        System.out.print("New value: ");
+        double value = Double.parseDouble(scanner.nextLine().trim());
+        PricingImpact impact = manager.simulatePricing(current.with(changed, value));
+        System.out.println("\n=== Monthly Revenue Impact ===");
+        System.out.println(impact);
+    }
+    
     /**
      * Handles saving all current members to a CSV file.
      * Prompts user for filename or uses default.
@@ -416,6 +451,20 @@ public class MemberManagementSystem {
         }
     }
 
+    /**
+     * Loads the default fee schedule file if it exists, so prices can be
+     * changed without rebuilding. Otherwise the built-in fees apply.
+     */
+    private static void loadFeeSchedule() {
+        if (new File(Constants.DEFAULT_FEE_SCHEDULE_FILE).exists()) {
+            try {
+                manager.loadFeeSchedule(Constants.DEFAULT_FEE_SCHEDULE_FILE);
+            } catch (IOException | IllegalArgumentException e) {
+                System.out.println("Using built-in fees: " + e.getMessage());
+            }
+        }
+    }
+    
     /**
      * Creates initial CSV data file with sample members if file doesn't exist.
      * Provides 10 sample members across all membership types for testing.